@@ -0,0 +1,537 @@
+import greenfoot.*;
+import java.util.Arrays;
+
+/**
+ * The data of every animated actor in a game, kept in arrays with one place for each actor, along with the systems
+ * that update the animations and fades of all of them at once.
+ *
+ * An animated actor is a view of its place in these arrays: its precise location and velocity, its animation and
+ * collision masks, and its lifespan and fade are all kept here rather than in the actor. An actor keeps its place for
+ * as long as it exists, including while it waits in a pool, but only the actors that are in the world are updated.
+ * Once per act cycle the game world runs each system over them in turn.
+ *
+ * Rather than checking every actor's timers each act cycle, the tick at which each actor's next animation frame is
+ * due, and the tick at which it starts to fade, are set in timing wheels whenever they change. The animation system
+ * only wakes the actors whose frames are due, and the fade system only those that are fading, so the cost of an act
+ * cycle follows how much is happening rather than the number of actors.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ActorComponents {
+	private static final int INITIAL_CAPACITY = 32;
+
+	private GameClock clock;
+	private boolean isHeadless;
+
+	// Places 0 to count - 1 belong to actors
+	private int count = 0;
+	private AnimatedActor[] actors = new AnimatedActor[INITIAL_CAPACITY];
+	// Places of the actors that are in the world, in no particular order
+	private int[] active = new int[INITIAL_CAPACITY];
+	private int activeCount = 0;
+	// Where each place is in the list of actors in the world, or -1 if its actor isn't in the world
+	private int[] activeIndex = new int[INITIAL_CAPACITY];
+
+	// Location: precise location for fine movement, as fixed-point numbers
+	private int[] x = new int[INITIAL_CAPACITY];
+	private int[] y = new int[INITIAL_CAPACITY];
+	// Movement: the rotation that each velocity was worked out for, and the fixed-point distance moved along each axis
+	// per cell of movement in that direction
+	private int[] heading = new int[INITIAL_CAPACITY];
+	private int[] velocityX = new int[INITIAL_CAPACITY];
+	private int[] velocityY = new int[INITIAL_CAPACITY];
+	// Number of cells that the movement system moves each actor per act cycle
+	private int[] speed = new int[INITIAL_CAPACITY];
+
+	// Animation: the frames and their collision masks, with the mirrored ones looked up the first time they are needed
+	private GreenfootImage[][] frames = new GreenfootImage[INITIAL_CAPACITY][];
+	private GreenfootImage[][] mirroredFrames = new GreenfootImage[INITIAL_CAPACITY][];
+	private CollisionMask[][] masks = new CollisionMask[INITIAL_CAPACITY][];
+	private CollisionMask[][] mirroredMasks = new CollisionMask[INITIAL_CAPACITY][];
+	private boolean[] isMirrored = new boolean[INITIAL_CAPACITY];
+	private boolean[] isAnimating = new boolean[INITIAL_CAPACITY];
+	private int[] frameIndex = new int[INITIAL_CAPACITY];
+	// Number of milliseconds between animation frames
+	private int[] frameDelay = new int[INITIAL_CAPACITY];
+	// Tick at which each animation frame was last changed
+	private long[] frameMark = new long[INITIAL_CAPACITY];
+	// When each actor's next animation frame is due, set for every actor in the world that is animating
+	private TimingWheel frameTimers;
+
+	// Lifespan and fade
+	private boolean[] willFade = new boolean[INITIAL_CAPACITY];
+	// Number of milliseconds to exist before fading away
+	private int[] lifespan = new int[INITIAL_CAPACITY];
+	// Tick from which each lifespan is timed
+	private long[] lifeMark = new long[INITIAL_CAPACITY];
+	// The 'transparency' (really opacity) while fading away
+	private int[] transparency = new int[INITIAL_CAPACITY];
+	// The image last set while fading, and the image it was faded from
+	private GreenfootImage[] fadedImages = new GreenfootImage[INITIAL_CAPACITY];
+	private GreenfootImage[] unfadedImages = new GreenfootImage[INITIAL_CAPACITY];
+	// When each actor starts to fade, set for every actor in the world that will fade but hasn't started yet
+	private TimingWheel fadeTimers;
+	// Places of the actors in the world that are fading, in no particular order
+	private int[] fading = new int[INITIAL_CAPACITY];
+	private int fadingCount = 0;
+	// Where each place is in the list of fading actors, or -1 if its actor isn't fading
+	private int[] fadingIndex = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Create a new set of components with no actors.
+	 *
+	 * @param clock the clock of the game that the actors belong to
+	 * @param isHeadless whether or not the game runs without a display, in which case fading images aren't made
+	 */
+	public ActorComponents(GameClock clock, boolean isHeadless) {
+		this.clock = clock;
+		this.isHeadless = isHeadless;
+		frameTimers = new TimingWheel(clock.getTicks());
+		fadeTimers = new TimingWheel(clock.getTicks());
+	}
+
+	/**
+	 * Return the clock of the game that the actors belong to.
+	 */
+	public GameClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Return whether or not the game runs without a display.
+	 */
+	public boolean isHeadless() {
+		return isHeadless;
+	}
+
+	/**
+	 * Give a new actor a place, with no animation, no lifespan and its timers marked now.
+	 *
+	 * @param actor the actor, which is not in the world yet
+	 * @return the actor's place
+	 */
+	public int add(AnimatedActor actor) {
+		if (count == actors.length) {
+			grow();
+		}
+		int i = count++;
+		actors[i] = actor;
+		activeIndex[i] = -1;
+		fadingIndex[i] = -1;
+		// Rotations are never -1, so the first velocity is always looked up
+		heading[i] = -1;
+		setHeading(i, 0);
+		frameDelay[i] = AnimatedActor.DEFAULT_FRAME_DELAY;
+		isAnimating[i] = true;
+		reset(i);
+		return i;
+	}
+
+	/**
+	 * Make room for twice as many actors.
+	 */
+	private void grow() {
+		int capacity = actors.length * 2;
+		actors = Arrays.copyOf(actors, capacity);
+		active = Arrays.copyOf(active, capacity);
+		activeIndex = Arrays.copyOf(activeIndex, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		heading = Arrays.copyOf(heading, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		speed = Arrays.copyOf(speed, capacity);
+		frames = Arrays.copyOf(frames, capacity);
+		mirroredFrames = Arrays.copyOf(mirroredFrames, capacity);
+		masks = Arrays.copyOf(masks, capacity);
+		mirroredMasks = Arrays.copyOf(mirroredMasks, capacity);
+		isMirrored = Arrays.copyOf(isMirrored, capacity);
+		isAnimating = Arrays.copyOf(isAnimating, capacity);
+		frameIndex = Arrays.copyOf(frameIndex, capacity);
+		frameDelay = Arrays.copyOf(frameDelay, capacity);
+		frameMark = Arrays.copyOf(frameMark, capacity);
+		willFade = Arrays.copyOf(willFade, capacity);
+		lifespan = Arrays.copyOf(lifespan, capacity);
+		lifeMark = Arrays.copyOf(lifeMark, capacity);
+		transparency = Arrays.copyOf(transparency, capacity);
+		fadedImages = Arrays.copyOf(fadedImages, capacity);
+		unfadedImages = Arrays.copyOf(unfadedImages, capacity);
+		fading = Arrays.copyOf(fading, capacity);
+		fadingIndex = Arrays.copyOf(fadingIndex, capacity);
+	}
+
+	/**
+	 * Start updating an actor that was just added to the world.
+	 *
+	 * @param i the actor's place
+	 */
+	public void activate(int i) {
+		if (activeIndex[i] >= 0) {
+			return;
+		}
+		activeIndex[i] = activeCount;
+		active[activeCount++] = i;
+		scheduleFrame(i);
+		scheduleFade(i);
+	}
+
+	/**
+	 * Stop updating an actor that was just removed from the world.
+	 *
+	 * @param i the actor's place
+	 */
+	public void deactivate(int i) {
+		int index = activeIndex[i];
+		if (index < 0) {
+			return;
+		}
+		// Move the last actor in the world into the gap
+		int last = active[--activeCount];
+		active[index] = last;
+		activeIndex[last] = index;
+		activeIndex[i] = -1;
+		scheduleFrame(i);
+		scheduleFade(i);
+	}
+
+	/**
+	 * Return the number of actors in the world.
+	 */
+	public int getActiveCount() {
+		return activeCount;
+	}
+
+	/**
+	 * Return an actor to the state it was created in. The actor stops moving, the animation restarts from its first
+	 * frame, and the animation and lifespan are timed from now.
+	 *
+	 * @param i the actor's place
+	 */
+	public void reset(int i) {
+		speed[i] = 0;
+		frameIndex[i] = 0;
+		isMirrored[i] = false;
+		lifespan[i] = 0;
+		willFade[i] = false;
+		transparency[i] = 255;
+		fadedImages[i] = null;
+		unfadedImages[i] = null;
+		long now = clock.getTicks();
+		frameMark[i] = now;
+		lifeMark[i] = now;
+		if (frames[i] != null) {
+			showFrame(i);
+		}
+		scheduleFrame(i);
+		scheduleFade(i);
+	}
+
+	/**
+	 * Return the x-coordinate of the cell that an actor's precise location is in.
+	 */
+	public int getX(int i) {
+		return Kinematics.toCell(x[i]);
+	}
+
+	/**
+	 * Return the y-coordinate of the cell that an actor's precise location is in.
+	 */
+	public int getY(int i) {
+		return Kinematics.toCell(y[i]);
+	}
+
+	/**
+	 * Set the precise location of an actor to the corner of a cell.
+	 */
+	public void setLocation(int i, int x, int y) {
+		this.x[i] = Kinematics.toFixed(x);
+		this.y[i] = Kinematics.toFixed(y);
+	}
+
+	/**
+	 * Point an actor's velocity in a direction, looking it up only if the direction has changed.
+	 *
+	 * @param i the actor's place
+	 * @param rotation the direction to move in, in degrees
+	 */
+	private void setHeading(int i, int rotation) {
+		if (heading[i] == rotation) {
+			return;
+		}
+		heading[i] = rotation;
+		velocityX[i] = Kinematics.cos(rotation);
+		velocityY[i] = Kinematics.sin(rotation);
+	}
+
+	/**
+	 * Move an actor's precise location a distance in a direction.
+	 *
+	 * @param i the actor's place
+	 * @param rotation the direction to move in, in degrees
+	 * @param distance the distance to move; a negative value moves backwards
+	 */
+	public void move(int i, int rotation, int distance) {
+		setHeading(i, rotation);
+		x[i] += velocityX[i] * distance;
+		y[i] += velocityY[i] * distance;
+	}
+
+	/**
+	 * Set how far the movement system moves an actor in the direction it is facing each act cycle.
+	 *
+	 * @param i the actor's place
+	 * @param speed the number of cells to move per act cycle; a negative value moves backwards, and 0 stops the actor
+	 */
+	public void setSpeed(int i, int speed) {
+		this.speed[i] = speed;
+	}
+
+	/**
+	 * Set an actor's animation, starting from its first frame.
+	 *
+	 * @param i the actor's place
+	 * @param frames the array of animation frames to use
+	 */
+	public void setAnimation(int i, GreenfootImage[] frames) {
+		this.frames[i] = frames;
+		mirroredFrames[i] = null;
+		masks[i] = null;
+		mirroredMasks[i] = null;
+		frameIndex[i] = 0;
+		showFrame(i);
+		scheduleFrame(i);
+	}
+
+	/**
+	 * Return the array of animation frames that an actor is using.
+	 */
+	public GreenfootImage[] getAnimation(int i) {
+		return frames[i];
+	}
+
+	/**
+	 * Set whether or not an actor's animation frames are shown mirrored horizontally.
+	 */
+	public void setMirrored(int i, boolean isMirrored) {
+		if (this.isMirrored[i] == isMirrored) {
+			return;
+		}
+		this.isMirrored[i] = isMirrored;
+		showFrame(i);
+	}
+
+	/**
+	 * Set whether or not an actor's animation advances.
+	 */
+	public void setAnimating(int i, boolean isAnimating) {
+		this.isAnimating[i] = isAnimating;
+		scheduleFrame(i);
+	}
+
+	/**
+	 * Set the number of milliseconds between an actor's animation frames.
+	 */
+	public void setFrameDelay(int i, int delay) {
+		frameDelay[i] = delay;
+		scheduleFrame(i);
+	}
+
+	/**
+	 * Return an actor's current animation frame.
+	 */
+	public GreenfootImage getFrame(int i) {
+		if (!isMirrored[i]) {
+			return frames[i][frameIndex[i]];
+		}
+		if (mirroredFrames[i] == null) {
+			mirroredFrames[i] = FrameCache.getMirrored(frames[i]);
+		}
+		return mirroredFrames[i][frameIndex[i]];
+	}
+
+	/**
+	 * Return the collision mask of an actor's current animation frame.
+	 */
+	public CollisionMask getCollisionMask(int i) {
+		if (!isMirrored[i]) {
+			if (masks[i] == null) {
+				masks[i] = FrameCache.getMasks(frames[i]);
+			}
+			return masks[i][frameIndex[i]];
+		}
+		if (mirroredMasks[i] == null) {
+			if (mirroredFrames[i] == null) {
+				mirroredFrames[i] = FrameCache.getMirrored(frames[i]);
+			}
+			mirroredMasks[i] = FrameCache.getMasks(mirroredFrames[i]);
+		}
+		return mirroredMasks[i][frameIndex[i]];
+	}
+
+	/**
+	 * Set an actor's image to its current animation frame.
+	 */
+	public void showFrame(int i) {
+		actors[i].setImage(getFrame(i));
+	}
+
+	/**
+	 * Set an actor's lifespan, after which it fades away.
+	 *
+	 * @param i the actor's place
+	 * @param lifespan the number of milliseconds for the actor to exist before fading away
+	 */
+	public void setLifespan(int i, int lifespan) {
+		this.lifespan[i] = lifespan;
+		willFade[i] = true;
+		scheduleFade(i);
+	}
+
+	/**
+	 * Start fading away an actor now.
+	 */
+	public void fadeAway(int i) {
+		lifespan[i] = 0;
+		willFade[i] = true;
+		scheduleFade(i);
+	}
+
+	/**
+	 * Start timing an actor's life from now.
+	 */
+	public void startLifespan(int i) {
+		lifeMark[i] = clock.getTicks();
+		scheduleFade(i);
+	}
+
+	/**
+	 * Return whether or not an actor is fading away.
+	 */
+	public boolean isFading(int i) {
+		return willFade[i] && GameClock.toMillis(clock.getTicks() - lifeMark[i]) >= lifespan[i];
+	}
+
+	/**
+	 * Move every actor in the world that has a speed in the direction it is facing, all in one loop.
+	 */
+	public void updateMovement() {
+		for (int j = 0; j < activeCount; j++) {
+			int i = active[j];
+			if (speed[i] == 0) {
+				continue;
+			}
+			AnimatedActor actor = actors[i];
+			setHeading(i, actor.getRotation());
+			x[i] += velocityX[i] * speed[i];
+			y[i] += velocityY[i] * speed[i];
+			actor.placeAtPreciseLocation();
+		}
+	}
+
+	/**
+	 * Set when an actor's next animation frame is due, or clear it if the actor isn't animating in the world.
+	 */
+	private void scheduleFrame(int i) {
+		if (activeIndex[i] < 0 || frames[i] == null || !isAnimating[i]) {
+			frameTimers.cancel(i);
+			return;
+		}
+		frameTimers.schedule(i, frameMark[i] + GameClock.toTicks(frameDelay[i]));
+	}
+
+	/**
+	 * Set when an actor starts to fade, or clear it if the actor won't fade in the world. An actor that was fading
+	 * stops until its new time comes, which is straight away if it has already passed.
+	 */
+	private void scheduleFade(int i) {
+		int index = fadingIndex[i];
+		if (index >= 0) {
+			// Move the last fading actor into the gap
+			int last = fading[--fadingCount];
+			fading[index] = last;
+			fadingIndex[last] = index;
+			fadingIndex[i] = -1;
+		}
+		if (activeIndex[i] < 0 || !willFade[i]) {
+			fadeTimers.cancel(i);
+			return;
+		}
+		fadeTimers.schedule(i, lifeMark[i] + GameClock.toTicks(lifespan[i]));
+	}
+
+	/**
+	 * Advance the animation of every actor in the world whose next frame is due.
+	 */
+	public void updateAnimations() {
+		long now = clock.getTicks();
+		int count = frameTimers.advance(now);
+		for (int j = 0; j < count; j++) {
+			advanceFrame(frameTimers.getFired(j), now);
+		}
+	}
+
+	/**
+	 * Advance the animation of an actor that isn't animating by itself, and so times its own frames, if its next
+	 * frame is due.
+	 *
+	 * @param i the actor's place
+	 * @return true if the animation was advanced, false otherwise
+	 */
+	public boolean updateAnimation(int i) {
+		long now = clock.getTicks();
+		if (GameClock.toMillis(now - frameMark[i]) < frameDelay[i]) {
+			return false;
+		}
+		advanceFrame(i, now);
+		return true;
+	}
+
+	/**
+	 * Show an actor's next animation frame, timing the one after it from now.
+	 */
+	private void advanceFrame(int i, long now) {
+		frameIndex[i] = (frameIndex[i] + 1) % frames[i].length;
+		showFrame(i);
+		frameMark[i] = now;
+		scheduleFrame(i);
+	}
+
+	/**
+	 * Fade every actor in the world whose lifespan has passed a step further, removing each one once it can no longer
+	 * be seen.
+	 */
+	public void updateFades() {
+		int count = fadeTimers.advance(clock.getTicks());
+		for (int j = 0; j < count; j++) {
+			int i = fadeTimers.getFired(j);
+			fadingIndex[i] = fadingCount;
+			fading[fadingCount++] = i;
+		}
+		// Removing an actor moves the last fading actor into its place, which has already been updated when going
+		// backwards
+		for (int j = fadingCount - 1; j >= 0; j--) {
+			int i = fading[j];
+			// Gradually decrease the image 'transparency' (really opacity) before removing the actor
+			transparency[i] -= AnimatedActor.FADE_INTERVAL;
+			AnimatedActor actor = actors[i];
+			if (transparency[i] <= 0) {
+				// Remove the actor once it has become fully transparent
+				actor.getWorld().removeObject(actor);
+				continue;
+			}
+			if (isHeadless) {
+				// The transparency can't be seen without a display
+				continue;
+			}
+			// Use a faded copy of the original image so the change is not permanent; if the image was changed since
+			// the last fade step (such as by the animation advancing), the new image is the original
+			GreenfootImage image = actor.getImage();
+			if (image != fadedImages[i]) {
+				unfadedImages[i] = image;
+			}
+			fadedImages[i] = FrameCache.getFaded(unfadedImages[i], transparency[i]);
+			actor.setImage(fadedImages[i]);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+import greenfoot.*;
+
+/**
+ * A grid of equal square cells over a world, holding actors in the cells of their locations, so that the actors which
+ * might touch an area can be found by looking in a few cells rather than at every actor.
+ *
+ * Actors are kept in the cell of the location they had when added, so an actor must be removed before it moves and
+ * added again after. Locations outside the world go in the nearest cell at its edge.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ActorGrid<T extends Actor> {
+	private int cellSize;
+	private int columns;
+	private int rows;
+	private ActorList<T>[] cells;
+	// Half the size of the largest image of any actor added, which is how far an actor can reach outside its cell
+	private int reachX = 0;
+	private int reachY = 0;
+
+	/**
+	 * Create a new empty grid.
+	 *
+	 * @param width the width of the world
+	 * @param height the height of the world
+	 * @param cellSize the width and height of each cell
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public ActorGrid(int width, int height, int cellSize) {
+		this.cellSize = cellSize;
+		columns = (width + cellSize - 1) / cellSize;
+		rows = (height + cellSize - 1) / cellSize;
+		cells = new ActorList[columns * rows];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = new ActorList<T>();
+		}
+	}
+
+	/**
+	 * Add an actor in the cell of its current location.
+	 *
+	 * @param actor the actor to add, which must be in a world
+	 */
+	public void add(T actor) {
+		getCell(actor.getX(), actor.getY()).add(actor);
+		GreenfootImage image = actor.getImage();
+		if (image != null) {
+			reachX = Math.max(reachX, (image.getWidth() + 1) / 2);
+			reachY = Math.max(reachY, (image.getHeight() + 1) / 2);
+		}
+	}
+
+	/**
+	 * Remove an actor, which must not have moved since it was added.
+	 *
+	 * @param actor the actor to remove
+	 * @return true if the actor was in this grid, false if not
+	 */
+	public boolean remove(T actor) {
+		return getCell(actor.getX(), actor.getY()).remove(actor);
+	}
+
+	/**
+	 * Find every actor whose image might overlap an area, replacing the contents of a list with them. Only actors
+	 * within reach of the area are found, but not every actor found touches it.
+	 *
+	 * @param left the left side of the area
+	 * @param top the top of the area
+	 * @param right the right side of the area
+	 * @param bottom the bottom of the area
+	 * @param results the list to fill with the actors found
+	 */
+	public void findNear(int left, int top, int right, int bottom, ActorList<T> results) {
+		results.clear();
+		int minColumn = getColumn(left - reachX);
+		int maxColumn = getColumn(right + reachX);
+		int minRow = getRow(top - reachY);
+		int maxRow = getRow(bottom + reachY);
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int column = minColumn; column <= maxColumn; column++) {
+				ActorList<T> cell = cells[row * columns + column];
+				for (int i = 0; i < cell.size(); i++) {
+					results.add(cell.get(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the cell holding a location.
+	 */
+	private ActorList<T> getCell(int x, int y) {
+		return cells[getRow(y) * columns + getColumn(x)];
+	}
+
+	/**
+	 * Return the column holding an x-coordinate, or the nearest column if it is outside the world.
+	 */
+	private int getColumn(int x) {
+		return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+	}
+
+	/**
+	 * Return the row holding a y-coordinate, or the nearest row if it is outside the world.
+	 */
+	private int getRow(int y) {
+		return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+	}
+}
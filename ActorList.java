@@ -0,0 +1,70 @@
+import greenfoot.*;
+import java.util.Arrays;
+
+/**
+ * A list of the actors of one type in a world, in the order they were added, that can be looped over by index
+ * without creating anything.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ActorList<T extends Actor> {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private Actor[] actors = new Actor[INITIAL_CAPACITY];
+	private int size = 0;
+
+	/**
+	 * Add an actor to the end of this list.
+	 *
+	 * @param actor the actor to add
+	 */
+	public void add(T actor) {
+		if (size == actors.length) {
+			actors = Arrays.copyOf(actors, size * 2);
+		}
+		actors[size++] = actor;
+	}
+
+	/**
+	 * Remove an actor from this list, keeping the order of the rest.
+	 *
+	 * @param actor the actor to remove
+	 * @return true if the actor was in this list, false if not
+	 */
+	public boolean remove(T actor) {
+		for (int i = 0; i < size; i++) {
+			if (actors[i] == actor) {
+				System.arraycopy(actors, i + 1, actors, i, size - i - 1);
+				actors[--size] = null;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove every actor from this list.
+	 */
+	public void clear() {
+		Arrays.fill(actors, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Return the actor at a position in this list.
+	 *
+	 * @param index the position of the actor, from 0 for the first added
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) actors[index];
+	}
+
+	/**
+	 * Return the number of actors in this list.
+	 */
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,41 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * A pool of actors that have been removed from a world and may be used again, so that actors which come and go all
+ * game long don't have to be created anew each time.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ActorPool<T extends Actor> {
+	private ArrayList<T> actors = new ArrayList<T>();
+
+	/**
+	 * Take an actor out of this pool.
+	 *
+	 * @return an actor that is no longer in any world, or null if this pool is empty
+	 */
+	public T take() {
+		if (actors.isEmpty()) {
+			return null;
+		}
+		return actors.remove(actors.size() - 1);
+	}
+
+	/**
+	 * Put an actor into this pool once it has been removed from its world.
+	 *
+	 * @param actor the actor to keep for later
+	 */
+	public void release(T actor) {
+		actors.add(actor);
+	}
+
+	/**
+	 * Return the number of actors waiting in this pool.
+	 */
+	public int size() {
+		return actors.size();
+	}
+}
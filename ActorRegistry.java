@@ -0,0 +1,139 @@
+import greenfoot.*;
+
+/**
+ * The actors of each type that a game needs to find often, kept up to date as actors are added to and removed from
+ * its world, so finding them never has to search the whole world or create a new list.
+ *
+ * Coins are also kept in a grid by location, so the coins near the spider can be found without looking at every coin.
+ * Gas isn't kept here, since all of a game's gas is already held together by its GasCloud.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ActorRegistry {
+	// About the size of a coin plus the spider, so the coins near the spider are in a few cells
+	private static final int GRID_CELL_SIZE = 64;
+
+	private ActorList<Web> webs = new ActorList<Web>();
+	private ActorList<Spray> sprays = new ActorList<Spray>();
+	private ActorList<Coin> coins = new ActorList<Coin>();
+	private ActorList<Heart> hearts = new ActorList<Heart>();
+	private ActorList<Glass> glasses = new ActorList<Glass>();
+	// The only actors that still act on their own, rather than being updated by the world's systems
+	private ActorList<Actor> actingActors = new ActorList<Actor>();
+	private WebRing webRing;
+	private ActorGrid<Coin> coinGrid;
+
+	/**
+	 * Create a new empty registry.
+	 *
+	 * @param maxWebCount the greatest number of webs at once, after which adding a web fades away the oldest
+	 * @param width the width of the world
+	 * @param height the height of the world
+	 */
+	public ActorRegistry(int maxWebCount, int width, int height) {
+		webRing = new WebRing(maxWebCount);
+		coinGrid = new ActorGrid<Coin>(width, height, GRID_CELL_SIZE);
+	}
+
+	/**
+	 * Keep track of an actor that was just added to the world.
+	 *
+	 * @param actor the actor that was added
+	 */
+	public void add(Actor actor) {
+		if (actor instanceof Web) {
+			webs.add((Web) actor);
+		} else if (actor instanceof Spray) {
+			sprays.add((Spray) actor);
+		} else if (actor instanceof Coin) {
+			coins.add((Coin) actor);
+			coinGrid.add((Coin) actor);
+		} else if (actor instanceof Heart) {
+			hearts.add((Heart) actor);
+		} else if (actor instanceof Glass) {
+			glasses.add((Glass) actor);
+		} else if (actor instanceof Button || actor instanceof ProfilerOverlay) {
+			actingActors.add(actor);
+		}
+	}
+
+	/**
+	 * Stop keeping track of an actor that was just removed from the world.
+	 *
+	 * @param actor the actor that was removed
+	 */
+	public void remove(Actor actor) {
+		if (actor instanceof Web) {
+			webs.remove((Web) actor);
+			webRing.remove((Web) actor);
+		} else if (actor instanceof Spray) {
+			sprays.remove((Spray) actor);
+		} else if (actor instanceof Coin) {
+			coins.remove((Coin) actor);
+			coinGrid.remove((Coin) actor);
+		} else if (actor instanceof Heart) {
+			hearts.remove((Heart) actor);
+		} else if (actor instanceof Glass) {
+			glasses.remove((Glass) actor);
+		} else if (actor instanceof Button || actor instanceof ProfilerOverlay) {
+			actingActors.remove(actor);
+		}
+	}
+
+	/**
+	 * Return all webs in the world, oldest first.
+	 */
+	public ActorList<Web> getWebs() {
+		return webs;
+	}
+
+	/**
+	 * Return all sprays in the world.
+	 */
+	public ActorList<Spray> getSprays() {
+		return sprays;
+	}
+
+	/**
+	 * Return all coins in the world.
+	 */
+	public ActorList<Coin> getCoins() {
+		return coins;
+	}
+
+	/**
+	 * Return the grid of all coins in the world by location. Coins never move, so the grid stays up to date.
+	 */
+	public ActorGrid<Coin> getCoinGrid() {
+		return coinGrid;
+	}
+
+	/**
+	 * Return all hearts in the world.
+	 */
+	public ActorList<Heart> getHearts() {
+		return hearts;
+	}
+
+	/**
+	 * Return all glasses in the world.
+	 */
+	public ActorList<Glass> getGlasses() {
+		return glasses;
+	}
+
+	/**
+	 * Return the actors in the world that act on their own, in the order they were added.
+	 */
+	public ActorList<Actor> getActingActors() {
+		return actingActors;
+	}
+
+	/**
+	 * Return the locked-in webs in the world that count towards the greatest number of webs, oldest first.
+	 */
+	public WebRing getWebRing() {
+		return webRing;
+	}
+}
@@ -3,26 +3,60 @@ import greenfoot.*;
 /**
  * An actor class adding an animation system.
  *
+ * The data of an animated actor is kept in its game's ActorComponents, which this class is a view of. The actor's
+ * animation and fade are advanced by the game world's systems each act cycle, so an animated actor does nothing of
+ * its own accord when it acts.
+ *
  * @author Martin Baldwin
  * @version June 2022
  */
 public abstract class AnimatedActor extends Actor {
 	public static final int DEFAULT_FRAME_DELAY = 250;
 	// Number of steps to decrease 'transparency' (really opacity) each act cycle while fading away
-	private static final int FADE_INTERVAL = 4;
+	public static final int FADE_INTERVAL = 4;
+
+	private ActorComponents components;
+	// This actor's place in the components
+	private int slot;
+
+	/**
+	 * Create a new animated actor.
+	 *
+	 * @param components the components of the game that this actor belongs to
+	 */
+	protected AnimatedActor(ActorComponents components) {
+		this.components = components;
+		slot = components.add(this);
+	}
 
-	private GreenfootImage[] frames;
-	private int index;
-	private int delay = DEFAULT_FRAME_DELAY;
-	private int lifespan;
-	private int transparency = 255;
-	private boolean willFade = false;
-	private SimpleTimer timer = new SimpleTimer();
-	private SimpleTimer fadeTimer = new SimpleTimer();
+	/**
+	 * Return this actor to the state it was created in, so it can be used again after being removed from its world.
+	 * The animation restarts from its first frame, and the animation and lifespan are timed from now.
+	 */
+	protected void reset() {
+		components.reset(slot);
+	}
 
-	// Precise location for fine movement
-	private double x;
-	private double y;
+	/**
+	 * Return this actor's place in the components of its game.
+	 */
+	public int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * Return the components of the game that this actor belongs to.
+	 */
+	protected ActorComponents getComponents() {
+		return components;
+	}
+
+	/**
+	 * Return the clock of the game that this actor belongs to.
+	 */
+	protected GameClock getClock() {
+		return components.getClock();
+	}
 
 	/**
 	 * Set this actor's animation frame delay.
@@ -30,7 +64,7 @@ public abstract class AnimatedActor extends Actor {
 	 * @param delay the number of milliseconds to delay between each animation frame
 	 */
 	protected void setFrameDelay(int delay) {
-		this.delay = delay;
+		components.setFrameDelay(slot, delay);
 	}
 
 	/**
@@ -39,16 +73,41 @@ public abstract class AnimatedActor extends Actor {
 	 * @param frames the array of animation frames to use
 	 */
 	protected void setAnimation(GreenfootImage[] frames) {
-		this.frames = frames;
-		index = 0;
-		updateAnimationFrame();
+		components.setAnimation(slot, frames);
+	}
+
+	/**
+	 * Set whether or not this actor's animation advances.
+	 *
+	 * @param isAnimating true to advance the animation as time passes, false to hold the current frame
+	 */
+	protected void setAnimating(boolean isAnimating) {
+		components.setAnimating(slot, isAnimating);
+	}
+
+	/**
+	 * Advance this actor's animation if its next frame is due, for an actor that isn't animating by itself.
+	 *
+	 * @return true if the animation was advanced, false otherwise
+	 */
+	protected boolean updateAnimation() {
+		return components.updateAnimation(slot);
+	}
+
+	/**
+	 * Set whether or not this actor's animation frames are shown mirrored horizontally.
+	 *
+	 * @param isMirrored true to show the mirrored frames, false to show the frames as they are
+	 */
+	protected void setMirrored(boolean isMirrored) {
+		components.setMirrored(slot, isMirrored);
 	}
 
 	/**
 	 * Return the array of animation frames that this actor is currently using.
 	 */
 	protected GreenfootImage[] getAnimation() {
-		return frames;
+		return components.getAnimation(slot);
 	}
 
 	/**
@@ -57,30 +116,34 @@ public abstract class AnimatedActor extends Actor {
 	 * @return this actor's current animation frame
 	 */
 	protected GreenfootImage getAnimationFrame() {
-		return frames[index];
+		return components.getFrame(slot);
 	}
 
 	/**
-	 * Set this actor's image according to its current animation frame.
+	 * Return the collision mask of this actor's current animation frame, which is the same whether or not the actor
+	 * is fading.
 	 */
-	protected void updateAnimationFrame() {
-		setImage(getAnimationFrame());
+	public CollisionMask getCollisionMask() {
+		return components.getCollisionMask(slot);
 	}
 
 	/**
-	 * Advance this actor's animation and update its image accordingly.
+	 * Check if this actor's current animation frame has a solid pixel at a location. The actor may not be rotated.
 	 *
-	 * @return true if the animation was advanced, false otherwise
+	 * @param x the x-coordinate of the location
+	 * @param y the y-coordinate of the location
+	 * @return true if the pixel of this actor at the location is solid, false if not
 	 */
-	protected boolean updateAnimation() {
-		if (timer.millisElapsed() < delay) {
-			return false;
-		}
-		// Advance animation frame
-		index = (index + 1) % frames.length;
-		updateAnimationFrame();
-		timer.mark();
-		return true;
+	public boolean isSolidAt(int x, int y) {
+		CollisionMask mask = getCollisionMask();
+		return mask.contains(getX() - mask.getImageWidth() / 2, getY() - mask.getImageHeight() / 2, x, y);
+	}
+
+	/**
+	 * Set this actor's image according to its current animation frame.
+	 */
+	protected void updateAnimationFrame() {
+		components.showFrame(slot);
 	}
 
 	/**
@@ -89,60 +152,35 @@ public abstract class AnimatedActor extends Actor {
 	 * @param lifespan the number of milliseconds for this actor to exist before fading away
 	 */
 	protected void setLifespan(int lifespan) {
-		this.lifespan = lifespan;
-		willFade = true;
+		components.setLifespan(slot, lifespan);
 	}
 
 	/**
 	 * Start fading away this actor now.
 	 */
 	protected void fadeAway() {
-		lifespan = 0;
-		willFade = true;
+		components.fadeAway(slot);
 	}
 
 	/**
 	 * Start timing this actor's life.
 	 */
 	protected void startLifespan() {
-		fadeTimer.mark();
+		components.startLifespan(slot);
 	}
 
 	/**
 	 * Return whether or not this animated actor is currently fading away.
 	 */
 	public boolean isFading() {
-		return willFade && fadeTimer.millisElapsed() >= lifespan;
-	}
-
-	/**
-	 * Fade this animated actor away and remove it after its lifespan has passed.
-	 */
-	protected void updateFade() {
-		if (!isFading()) {
-			return;
-		}
-		// Gradually decrease the image 'transparency' (really opacity) before removing this actor
-		transparency -= FADE_INTERVAL;
-		if (transparency <= 0) {
-			// Remove this actor once it has become fully transparent
-			getWorld().removeObject(this);
-			return;
-		}
-		// Set the transparency on a copy of the original image so the change is not permanent
-		GreenfootImage image = new GreenfootImage(getImage());
-		image.setTransparency(transparency);
-		setImage(image);
+		return components.isFading(slot);
 	}
 
 	/**
-	 * Update this animated actor.
+	 * Return whether or not this animated actor is in a game that runs without a display.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
-		}
-		updateAnimation();
+	protected boolean isHeadless() {
+		return components.isHeadless();
 	}
 
 	/**
@@ -152,8 +190,7 @@ public abstract class AnimatedActor extends Actor {
 	 * @param y location index on the y-axis
 	 */
 	public void setLocation(int x, int y) {
-		this.x = (double) x;
-		this.y = (double) y;
+		components.setLocation(slot, x, y);
 		super.setLocation(x, y);
 	}
 
@@ -163,9 +200,24 @@ public abstract class AnimatedActor extends Actor {
 	 * @param distance the distance to move (in cell-size units); a negative value will move backwards
 	 */
 	public void move(int distance) {
-		double rotation = Math.toRadians(getRotation());
-		x += Math.cos(rotation) * (double) distance;
-		y += Math.sin(rotation) * (double) distance;
-		super.setLocation((int) x, (int) y);
+		components.move(slot, getRotation(), distance);
+		placeAtPreciseLocation();
+	}
+
+	/**
+	 * Set how far this animated actor moves in the direction it is facing each act cycle, which the game world's
+	 * movement system does for every actor at once.
+	 *
+	 * @param speed the distance to move per act cycle (in cell-size units); a negative value moves backwards
+	 */
+	protected void setSpeed(int speed) {
+		components.setSpeed(slot, speed);
+	}
+
+	/**
+	 * Put this animated actor in the cell that its precise location is in, after its precise location has moved.
+	 */
+	public void placeAtPreciseLocation() {
+		super.setLocation(components.getX(slot), components.getY(slot));
 	}
 }
@@ -0,0 +1,149 @@
+import greenfoot.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Every image and sound file that the game uses, loaded once and shared.
+ *
+ * The title screen starts loading all of them on a few background threads at once, followed by the images that each
+ * type of actor makes from them, so that nothing has to be read from disk once a game has started. Asking for a file
+ * returns it straight away once loaded, or waits while another thread is loading it. If nothing has started loading
+ * it, it is loaded right away by the thread asking, so the game still works when it was never preloaded.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class Assets {
+	private static final String[] IMAGE_FILES = { "images/coin-0.png", "images/coin-1.png", "images/gas-0-0.png",
+		"images/gas-0-1.png", "images/gas-1-0.png", "images/gas-1-1.png", "images/glass-0.png", "images/glass-1.png",
+		"images/glass-shadow-0.png", "images/glass-shadow-1.png", "images/heart-0.png", "images/heart-1.png",
+		"images/spider-idle-0.png", "images/spider-idle-1.png", "images/spider-walk-0.png", "images/spider-walk-1.png",
+		"images/spider-walk-2.png", "images/spider-walk-3.png", "images/spray-0.png", "images/spray-1.png", "images/web.png",
+		"images/web-notlocked.png" };
+	// Sound effects are loaded by the sound mixer instead, with a copy for each of its voices
+	private static final String[] SOUND_FILES = { "sounds/new-super-mario-bros-wii-battle-intro.mp3",
+		"sounds/new-super-mario-bros-wii-battle.mp3" };
+
+	// The loading of each file, started or not, by file name
+	private static final ConcurrentHashMap<String, FutureTask<Object>> files = new ConcurrentHashMap<String, FutureTask<Object>>();
+	private static boolean hasStartedPreloading = false;
+
+	/**
+	 * Start loading every file in the background, if not already started. This returns straight away.
+	 */
+	public static synchronized void preload() {
+		if (hasStartedPreloading) {
+			return;
+		}
+		hasStartedPreloading = true;
+		int threadCount = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "asset-loader");
+				// Never keep Greenfoot from closing just to finish loading
+				thread.setDaemon(true);
+				thread.setPriority(Thread.NORM_PRIORITY - 1);
+				return thread;
+			}
+		});
+		for (String file : IMAGE_FILES) {
+			executor.execute(getLoading(file));
+		}
+		for (String file : SOUND_FILES) {
+			executor.execute(getLoading(file));
+		}
+		// Once the files are queued, have each type of actor prepare the images it makes from them
+		executor.execute(new Runnable() {
+			public void run() {
+				Spider.loadImages();
+			}
+		});
+		executor.execute(new Runnable() {
+			public void run() {
+				Web.loadImages();
+			}
+		});
+		executor.execute(new Runnable() {
+			public void run() {
+				GasCloud.loadImages();
+			}
+		});
+		executor.execute(new Runnable() {
+			public void run() {
+				Coin.loadImages();
+				Heart.loadImages();
+				Spray.loadImages();
+				Glass.loadImages();
+				GlassShadow.loadImages();
+			}
+		});
+		// The threads finish once everything queued has been loaded
+		executor.shutdown();
+		SoundMixer.getInstance();
+	}
+
+	/**
+	 * Return a loaded image. The image is shared, so it must not be drawn on.
+	 *
+	 * @param file the name of the image file, such as "images/coin-0.png"
+	 */
+	public static GreenfootImage getImage(String file) {
+		return (GreenfootImage) get(file);
+	}
+
+	/**
+	 * Return a loaded sound. There is only one of each sound, shared by everything that plays it.
+	 *
+	 * @param file the name of the sound file, such as "sounds/new-super-mario-bros-wii-battle.mp3"
+	 */
+	public static GreenfootSound getSound(String file) {
+		return (GreenfootSound) get(file);
+	}
+
+	/**
+	 * Return a loaded file, loading it on this thread if no other thread has started to.
+	 */
+	private static Object get(String file) {
+		FutureTask<Object> loading = getLoading(file);
+		// Does nothing if the file is already loaded or being loaded by another thread
+		loading.run();
+		try {
+			return loading.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while loading " + file, e);
+		} catch (ExecutionException e) {
+			// Fail the same way as loading the file directly
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException("Could not load " + file, cause);
+		}
+	}
+
+	/**
+	 * Return the loading of a file, which is created the first time the file is asked for.
+	 */
+	private static FutureTask<Object> getLoading(final String file) {
+		FutureTask<Object> loading = files.get(file);
+		if (loading != null) {
+			return loading;
+		}
+		loading = new FutureTask<Object>(new Callable<Object>() {
+			public Object call() {
+				if (file.startsWith("sounds/")) {
+					return new GreenfootSound(file);
+				}
+				return new GreenfootImage(file);
+			}
+		});
+		FutureTask<Object> existing = files.putIfAbsent(file, loading);
+		return existing != null ? existing : loading;
+	}
+}
@@ -1,4 +1,7 @@
 import greenfoot.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * A clickable button with a label and an action.
@@ -10,11 +13,11 @@ public class Button extends Actor {
 	private static final int PADDING_X = 16;
 	private static final int PADDING_Y = 8;
 
-	private String string;
-	private int size;
-	private Color foreground;
-	private Color background;
-	private Color hoverBackground;
+	// Images of buttons already drawn, both not hovered and hovered, by text, size and colors
+	private static final HashMap<List<Object>, GreenfootImage[]> buttonImages = new HashMap<List<Object>, GreenfootImage[]>();
+
+	private GreenfootImage image;
+	private GreenfootImage hoverImage;
 	private boolean isHovered = false;
 	private Callback callback;
 
@@ -29,32 +32,59 @@ public class Button extends Actor {
 	 * @param callback a Callback object with a run method to be called when the button is clicked
 	 */
 	public Button(String string, int size, Color foreground, Color background, Color hoverBackground, Callback callback) {
-		this.string = string;
-		this.size = size;
-		this.foreground = foreground;
-		this.background = background;
-		this.hoverBackground = hoverBackground;
 		this.callback = callback;
-		createImage();
+		GreenfootImage[] images = getImages(string, size, foreground, background, hoverBackground);
+		image = images[0];
+		hoverImage = images[1];
+		setImage(image);
+	}
+
+	/**
+	 * Return the images of a button when not hovered and when hovered, creating them the first time they are needed.
+	 * Buttons that look the same, such as the ones on the title screen and the game over screen, share images.
+	 */
+	private static synchronized GreenfootImage[] getImages(String string, int size, Color foreground, Color background, Color hoverBackground) {
+		List<Object> key = Arrays.<Object>asList(string, size, foreground, background, hoverBackground);
+		GreenfootImage[] images = buttonImages.get(key);
+		if (images == null) {
+			images = new GreenfootImage[] {createImage(string, size, foreground, background), createImage(string, size, foreground, hoverBackground)};
+			buttonImages.put(key, images);
+		}
+		return images;
 	}
 
 	/**
-	 * Creates this button's image, using the appropriate background color depending on whether or not it is being hovered.
+	 * Creates a button image with a background color.
 	 */
-	private void createImage() {
-		GreenfootImage text = new GreenfootImage(string, size, foreground, isHovered ? hoverBackground : background);
+	private static GreenfootImage createImage(String string, int size, Color foreground, Color background) {
+		GreenfootImage text = new GreenfootImage(string, size, foreground, background);
 		// Add padding to the button so that the box isn't too close to the text
 		GreenfootImage image = new GreenfootImage(text.getWidth() + PADDING_X * 2, text.getHeight() + PADDING_Y * 2);
-		image.setColor(isHovered ? hoverBackground : background);
+		image.setColor(background);
 		image.fill();
 		image.drawImage(text, PADDING_X, PADDING_Y);
-		setImage(image);
+		return image;
 	}
 
 	/**
-	 * Updates this button's image if hovered and performs its action if clicked.
+	 * Updates this button, timing the update if it is in a game that is being profiled.
 	 */
 	public void act() {
+		World world = getWorld();
+		Profiler profiler = world instanceof GameWorld ? ((GameWorld) world).getProfiler() : null;
+		if (profiler == null) {
+			update();
+			return;
+		}
+		long start = System.nanoTime();
+		update();
+		profiler.record(Button.class, start);
+	}
+
+	/**
+	 * Updates this button's image if hovered and performs its action if clicked.
+	 */
+	private void update() {
 		MouseInfo mouse = Greenfoot.getMouseInfo();
 		if (mouse != null) {
 			int mouseX = mouse.getX();
@@ -69,7 +99,7 @@ public class Button extends Actor {
 			// When hover state changes, image should be updated to reflect it
 			if (isHovered != isNowHovered) {
 				isHovered = isNowHovered;
-				createImage();
+				setImage(isHovered ? hoverImage : image);
 			}
 		}
 		if (Greenfoot.mouseClicked(this)) {
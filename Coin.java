@@ -14,8 +14,11 @@ public class Coin extends AnimatedActor {
 
 	/**
 	 * Create a new coin.
+	 *
+	 * @param components the components of the game that this coin belongs to
 	 */
-	public Coin() {
+	public Coin(ActorComponents components) {
+		super(components);
 		loadImages();
 		setAnimation(images);
 		setLifespan(LIFESPAN);
@@ -24,24 +27,21 @@ public class Coin extends AnimatedActor {
 	/**
 	 * Load all images that coin actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < images.length; i++) {
-			images[i] = new GreenfootImage("images/coin-" + i + ".png");
+			images[i] = Assets.getImage("images/coin-" + i + ".png");
 		}
 		hasLoadedImages = true;
 	}
 
 	/**
-	 * Update this coin.
+	 * Make this coin new again, to be reused after it was removed from its world.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
-		}
-		updateAnimation();
-		updateFade();
+	public void reset() {
+		super.reset();
+		setLifespan(LIFESPAN);
 	}
 }
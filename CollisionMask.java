@@ -0,0 +1,121 @@
+import greenfoot.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The solid pixels of an image, packed as bits, for checking whether a point is on the image pixel for pixel.
+ *
+ * Each row of pixels is a few longs, one bit per pixel. Only the smallest rectangle holding every solid pixel is kept,
+ * which is also checked first, so points nowhere near the solid pixels cost a few comparisons. Masks are made once
+ * for each image and never change.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class CollisionMask {
+	// Smallest opacity at which a pixel counts as solid
+	private static final int ALPHA_THRESHOLD = 128;
+
+	// Size of the whole image that this mask was made from
+	private final int imageWidth;
+	private final int imageHeight;
+	// Location within the image, and size, of the rectangle holding every solid pixel
+	private final int offsetX;
+	private final int offsetY;
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	// Bit x % 64 of word y * wordsPerRow + x / 64 is set if the pixel at (x, y) within the rectangle is solid
+	private final long[] bits;
+
+	/**
+	 * Create a mask from which pixels of an image are solid.
+	 */
+	private CollisionMask(boolean[] solid, int imageWidth, int imageHeight) {
+		this.imageWidth = imageWidth;
+		this.imageHeight = imageHeight;
+		int left = imageWidth;
+		int top = imageHeight;
+		int right = 0;
+		int bottom = 0;
+		for (int y = 0; y < imageHeight; y++) {
+			for (int x = 0; x < imageWidth; x++) {
+				if (solid[y * imageWidth + x]) {
+					left = Math.min(left, x);
+					top = Math.min(top, y);
+					right = Math.max(right, x + 1);
+					bottom = Math.max(bottom, y + 1);
+				}
+			}
+		}
+		if (right <= left) {
+			// Nothing is solid
+			left = 0;
+			top = 0;
+			right = 0;
+			bottom = 0;
+		}
+		offsetX = left;
+		offsetY = top;
+		width = right - left;
+		height = bottom - top;
+		wordsPerRow = (width + 63) / 64;
+		bits = new long[wordsPerRow * height];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (solid[(top + y) * imageWidth + left + x]) {
+					bits[y * wordsPerRow + x / 64] |= 1L << (x % 64);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a mask of an image as it is.
+	 *
+	 * @param image the image, which must not be changed afterwards
+	 */
+	public static CollisionMask of(GreenfootImage image) {
+		BufferedImage awtImage = image.getAwtImage();
+		int width = awtImage.getWidth();
+		int height = awtImage.getHeight();
+		boolean[] solid = new boolean[width * height];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				solid[y * width + x] = (awtImage.getRGB(x, y) >>> 24) >= ALPHA_THRESHOLD;
+			}
+		}
+		return new CollisionMask(solid, width, height);
+	}
+
+	/**
+	 * Return the width of the image that this mask was made from.
+	 */
+	public int getImageWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * Return the height of the image that this mask was made from.
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Check if a pixel is solid.
+	 *
+	 * @param left the x-coordinate of the left side of this mask's image
+	 * @param top the y-coordinate of the top of this mask's image
+	 * @param x the x-coordinate of the pixel
+	 * @param y the y-coordinate of the pixel
+	 * @return true if the pixel is a solid pixel of this mask, false if not
+	 */
+	public boolean contains(int left, int top, int x, int y) {
+		int column = x - left - offsetX;
+		int row = y - top - offsetY;
+		if (column < 0 || column >= width || row < 0 || row >= height) {
+			return false;
+		}
+		return (bits[row * wordsPerRow + column / 64] & (1L << (column % 64))) != 0;
+	}
+}
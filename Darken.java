@@ -9,16 +9,28 @@ import greenfoot.*;
 public class Darken extends Actor {
     private static final Color COLOR = new Color(0, 0, 0, 128);
 
+    // The image last filled, shared by every darken covering a world of the same size
+    private static GreenfootImage overlay;
+
     /**
      * Initialize this darken when added to a world.
      */
     protected void addedToWorld(World world) {
-        // Create an image the size of the world filled with the colour
-        GreenfootImage image = new GreenfootImage(world.getWidth(), world.getHeight());
-        image.setColor(COLOR);
-        image.fill();
-        setImage(image);
+        setImage(getOverlay(world.getWidth(), world.getHeight()));
         // Centre this actor so that it covers the whole world
         setLocation(world.getWidth() / 2, world.getHeight() / 2);
     }
+
+    /**
+     * Return an image of a size filled with the colour, filling a new one only if the size has changed.
+     */
+    private static synchronized GreenfootImage getOverlay(int width, int height) {
+        if (overlay == null || overlay.getWidth() != width || overlay.getHeight() != height) {
+            // Create an image the size of the world filled with the colour
+            overlay = new GreenfootImage(width, height);
+            overlay.setColor(COLOR);
+            overlay.fill();
+        }
+        return overlay;
+    }
 }
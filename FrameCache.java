@@ -0,0 +1,84 @@
+import greenfoot.*;
+import java.util.IdentityHashMap;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of image variants that are made from animation frames, shared by every actor that uses the same frames.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class FrameCache {
+	// Number of transparency values that share one faded image; AnimatedActor fades in steps of this size from 255,
+	// so every value it uses is exactly the one that its faded image has
+	private static final int FADE_STEP = 4;
+	private static final int FADE_LEVELS = 256 / FADE_STEP;
+
+	private static final IdentityHashMap<GreenfootImage[], GreenfootImage[]> mirroredAnimations = new IdentityHashMap<GreenfootImage[], GreenfootImage[]>();
+	private static final IdentityHashMap<GreenfootImage[], CollisionMask[]> animationMasks = new IdentityHashMap<GreenfootImage[], CollisionMask[]>();
+	// Faded copies of images, indexed by transparency level; images that are no longer used are forgotten
+	private static final WeakHashMap<GreenfootImage, GreenfootImage[]> fadeRamps = new WeakHashMap<GreenfootImage, GreenfootImage[]>();
+
+	/**
+	 * Return the horizontally mirrored frames of an animation, mirroring them the first time they are asked for.
+	 *
+	 * @param frames the array of animation frames, which must not be changed afterwards
+	 * @return an array of the same frames mirrored horizontally
+	 */
+	public static synchronized GreenfootImage[] getMirrored(GreenfootImage[] frames) {
+		GreenfootImage[] mirrored = mirroredAnimations.get(frames);
+		if (mirrored == null) {
+			mirrored = new GreenfootImage[frames.length];
+			for (int i = 0; i < frames.length; i++) {
+				mirrored[i] = new GreenfootImage(frames[i]);
+				mirrored[i].mirrorHorizontally();
+			}
+			mirroredAnimations.put(frames, mirrored);
+		}
+		return mirrored;
+	}
+
+	/**
+	 * Return the collision masks of the frames of an animation, making them the first time they are asked for.
+	 *
+	 * @param frames the array of animation frames, which must not be changed afterwards
+	 * @return an array of the masks of the frames, in the same order
+	 */
+	public static synchronized CollisionMask[] getMasks(GreenfootImage[] frames) {
+		CollisionMask[] masks = animationMasks.get(frames);
+		if (masks == null) {
+			masks = new CollisionMask[frames.length];
+			for (int i = 0; i < frames.length; i++) {
+				masks[i] = CollisionMask.of(frames[i]);
+			}
+			animationMasks.put(frames, masks);
+		}
+		return masks;
+	}
+
+	/**
+	 * Return a copy of an image with a transparency, making the copy the first time it is asked for.
+	 *
+	 * Transparency is rounded to a multiple of FADE_STEP below 256, less one, so each image has at most FADE_LEVELS
+	 * faded copies.
+	 *
+	 * @param image the image to fade, which must not be changed afterwards
+	 * @param transparency the transparency (really opacity) from 0 to 255
+	 * @return a copy of the image with the transparency set
+	 */
+	public static synchronized GreenfootImage getFaded(GreenfootImage image, int transparency) {
+		GreenfootImage[] ramp = fadeRamps.get(image);
+		if (ramp == null) {
+			ramp = new GreenfootImage[FADE_LEVELS];
+			fadeRamps.put(image, ramp);
+		}
+		int level = transparency / FADE_STEP;
+		GreenfootImage faded = ramp[level];
+		if (faded == null) {
+			faded = new GreenfootImage(image);
+			faded.setTransparency(level * FADE_STEP + FADE_STEP - 1);
+			ramp[level] = faded;
+		}
+		return faded;
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ * A clock that measures game time in act cycles instead of wall-clock time.
+ *
+ * A game world owns one clock and advances it once per act cycle, so game time stands still while the game is paused
+ * and runs at whatever speed the game is acted at.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GameClock {
+	// Number of act cycles per second of game time; Greenfoot's default speed acts about 60 times a second
+	public static final int TICKS_PER_SECOND = 60;
+
+	private long ticks = 0;
+
+	/**
+	 * Advance this clock by one act cycle.
+	 */
+	public void tick() {
+		ticks++;
+	}
+
+	/**
+	 * Return the number of act cycles that have passed on this clock.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Return the number of milliseconds of game time that have passed on this clock.
+	 */
+	public int getMillis() {
+		return toMillis(ticks);
+	}
+
+	/**
+	 * Convert a number of act cycles to milliseconds of game time.
+	 *
+	 * @param ticks the number of act cycles
+	 * @return the number of milliseconds that the act cycles take
+	 */
+	public static int toMillis(long ticks) {
+		return (int) (ticks * 1000 / TICKS_PER_SECOND);
+	}
+
+	/**
+	 * Convert a number of milliseconds of game time to the fewest act cycles that take at least that long, so that
+	 * toMillis of the result is never less than the milliseconds given.
+	 *
+	 * @param millis the number of milliseconds
+	 * @return the number of act cycles
+	 */
+	public static long toTicks(int millis) {
+		return ((long) millis * TICKS_PER_SECOND + 999) / 1000;
+	}
+}
@@ -1,6 +1,7 @@
 /**
- * The different game modes to play the game in.
+ * The different game modes to play the game in. STRESS is not for playing: its spider can't die and it has glasses
+ * like HARD, so that a StressTest can pile up as much as the settings allow.
  */
 public enum GameMode {
-	EASY, HARD
+	EASY, HARD, STRESS
 }
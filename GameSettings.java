@@ -0,0 +1,261 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The numbers that decide how hard a game is: how often sprays, coins and gas appear, how long webs last, how many
+ * webs there may be at once, and how many glasses there are and how fast they move.
+ *
+ * Settings never change once created. Each with method returns a copy with some of the numbers changed, so settings
+ * can be shared between games, even games running at the same time.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GameSettings {
+	/**
+	 * The settings that the game is played with.
+	 */
+	public static final GameSettings DEFAULT = new GameSettings(10000, 4000, 750, 1000, 5000, 3, 1, 1, 1, 6);
+
+	private int sprayInterval;
+	private int coinInterval;
+	private int gasInterval;
+	private int webMinLifespan;
+	private int webMaxLifespan;
+	private int maxWebCount;
+	private int glassCount;
+	private int glassSpeed;
+	private int glassUpSpeed;
+	private int glassDownSpeed;
+
+	/**
+	 * Create new settings.
+	 *
+	 * @param sprayInterval the number of milliseconds between new sprays
+	 * @param coinInterval the number of milliseconds between new coins
+	 * @param gasInterval the number of milliseconds between puffs of gas from each spray
+	 * @param webMinLifespan the number of milliseconds that the largest webs exist for after being locked in
+	 * @param webMaxLifespan the number of milliseconds that the smallest webs exist for after being locked in
+	 * @param maxWebCount the greatest number of webs at once, after which the oldest web fades away
+	 * @param glassCount the number of glasses hunting the spider in the modes that have them
+	 * @param glassSpeed the distance the glass moves each act cycle while following the spider
+	 * @param glassUpSpeed the distance the glass moves each act cycle while rising before and after a capture
+	 * @param glassDownSpeed the distance the glass moves each act cycle while coming down to capture
+	 */
+	public GameSettings(int sprayInterval, int coinInterval, int gasInterval, int webMinLifespan, int webMaxLifespan, int maxWebCount,
+			int glassCount, int glassSpeed, int glassUpSpeed, int glassDownSpeed) {
+		this.sprayInterval = sprayInterval;
+		this.coinInterval = coinInterval;
+		this.gasInterval = gasInterval;
+		this.webMinLifespan = webMinLifespan;
+		this.webMaxLifespan = webMaxLifespan;
+		this.maxWebCount = maxWebCount;
+		this.glassCount = glassCount;
+		this.glassSpeed = glassSpeed;
+		this.glassUpSpeed = glassUpSpeed;
+		this.glassDownSpeed = glassDownSpeed;
+	}
+
+	/**
+	 * Return the number of milliseconds between new sprays.
+	 */
+	public int getSprayInterval() {
+		return sprayInterval;
+	}
+
+	/**
+	 * Return the number of milliseconds between new coins.
+	 */
+	public int getCoinInterval() {
+		return coinInterval;
+	}
+
+	/**
+	 * Return the number of milliseconds between puffs of gas from each spray.
+	 */
+	public int getGasInterval() {
+		return gasInterval;
+	}
+
+	/**
+	 * Return the number of milliseconds that the largest webs exist for after being locked in.
+	 */
+	public int getWebMinLifespan() {
+		return webMinLifespan;
+	}
+
+	/**
+	 * Return the number of milliseconds that the smallest webs exist for after being locked in.
+	 */
+	public int getWebMaxLifespan() {
+		return webMaxLifespan;
+	}
+
+	/**
+	 * Return the greatest number of webs at once.
+	 */
+	public int getMaxWebCount() {
+		return maxWebCount;
+	}
+
+	/**
+	 * Return the number of glasses hunting the spider in the modes that have them.
+	 */
+	public int getGlassCount() {
+		return glassCount;
+	}
+
+	/**
+	 * Return the distance the glass moves each act cycle while following the spider.
+	 */
+	public int getGlassSpeed() {
+		return glassSpeed;
+	}
+
+	/**
+	 * Return the distance the glass moves each act cycle while rising before and after a capture.
+	 */
+	public int getGlassUpSpeed() {
+		return glassUpSpeed;
+	}
+
+	/**
+	 * Return the distance the glass moves each act cycle while coming down to capture.
+	 */
+	public int getGlassDownSpeed() {
+		return glassDownSpeed;
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of milliseconds between new sprays.
+	 */
+	public GameSettings withSprayInterval(int sprayInterval) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of milliseconds between new coins.
+	 */
+	public GameSettings withCoinInterval(int coinInterval) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of milliseconds between puffs of gas.
+	 */
+	public GameSettings withGasInterval(int gasInterval) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of milliseconds that the largest webs exist for.
+	 */
+	public GameSettings withWebMinLifespan(int webMinLifespan) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of milliseconds that the smallest webs exist for.
+	 */
+	public GameSettings withWebMaxLifespan(int webMaxLifespan) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different greatest number of webs at once.
+	 */
+	public GameSettings withMaxWebCount(int maxWebCount) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different number of glasses.
+	 */
+	public GameSettings withGlassCount(int glassCount) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different distance the glass moves while following the spider.
+	 */
+	public GameSettings withGlassSpeed(int glassSpeed) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different distance the glass moves while rising.
+	 */
+	public GameSettings withGlassUpSpeed(int glassUpSpeed) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with a different distance the glass moves while coming down.
+	 */
+	public GameSettings withGlassDownSpeed(int glassDownSpeed) {
+		return new GameSettings(sprayInterval, coinInterval, gasInterval, webMinLifespan, webMaxLifespan, maxWebCount, glassCount, glassSpeed,
+			glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Return a copy of these settings with sprays, coins and gas appearing a number of times as often, and that many
+	 * times as many glasses and webs at once. Nothing can appear more often than once per act cycle.
+	 *
+	 * @param multiplier the number of times to multiply by, from 1
+	 */
+	public GameSettings withSpawnMultiplier(int multiplier) {
+		return new GameSettings(Math.max(1, sprayInterval / multiplier), Math.max(1, coinInterval / multiplier),
+			Math.max(1, gasInterval / multiplier), webMinLifespan, webMaxLifespan, maxWebCount * multiplier, glassCount * multiplier,
+			glassSpeed, glassUpSpeed, glassDownSpeed);
+	}
+
+	/**
+	 * Write these settings to a stream, such as at the start of a recording.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the settings could not be written
+	 */
+	public void write(DataOutput out) throws IOException {
+		out.writeInt(sprayInterval);
+		out.writeInt(coinInterval);
+		out.writeInt(gasInterval);
+		out.writeInt(webMinLifespan);
+		out.writeInt(webMaxLifespan);
+		out.writeInt(maxWebCount);
+		out.writeInt(glassCount);
+		out.writeInt(glassSpeed);
+		out.writeInt(glassUpSpeed);
+		out.writeInt(glassDownSpeed);
+	}
+
+	/**
+	 * Read settings written by write.
+	 *
+	 * @param in the stream to read from
+	 * @return the settings that were written
+	 * @throws IOException if the settings could not be read
+	 */
+	public static GameSettings read(DataInput in) throws IOException {
+		return new GameSettings(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+			in.readInt(), in.readInt(), in.readInt());
+	}
+
+	/**
+	 * Return these settings as text, such as for labelling the results of a game.
+	 */
+	public String toString() {
+		return "sprayInterval=" + sprayInterval + " coinInterval=" + coinInterval + " gasInterval=" + gasInterval + " webMinLifespan="
+			+ webMinLifespan + " webMaxLifespan=" + webMaxLifespan + " maxWebCount=" + maxWebCount + " glassCount=" + glassCount
+			+ " glassSpeed=" + glassSpeed + " glassUpSpeed=" + glassUpSpeed + " glassDownSpeed=" + glassDownSpeed;
+	}
+}
@@ -0,0 +1,37 @@
+/**
+ * A timer that keeps track of how much game time has passed between events.
+ *
+ * This works like SimpleTimer, but reads a GameClock instead of the system clock, so every reading during the same
+ * act cycle gives the same answer and the time spent paused is never counted.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GameTimer {
+	private GameClock clock;
+	private long lastMark;
+
+	/**
+	 * Create a new timer, marked at the current time of a clock.
+	 *
+	 * @param clock the clock to read the time from
+	 */
+	public GameTimer(GameClock clock) {
+		this.clock = clock;
+		lastMark = clock.getTicks();
+	}
+
+	/**
+	 * Mark the current time. millisElapsed() will start increasing from zero again.
+	 */
+	public void mark() {
+		lastMark = clock.getTicks();
+	}
+
+	/**
+	 * Return the number of milliseconds of game time that have passed since mark() was last called.
+	 */
+	public int millisElapsed() {
+		return GameClock.toMillis(clock.getTicks() - lastMark);
+	}
+}
@@ -1,60 +1,165 @@
 import greenfoot.*;
-import java.util.LinkedList;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
 
 /**
  * The world in which the core Super Spider game runs.
  *
+ * The game's actors don't act on their own. Instead, each act cycle this world runs a fixed list of systems, one after
+ * the other: input, spawning, movement, collision, animation and fade. Each system updates all of the actors it
+ * concerns in one go, mostly from the data that ActorComponents keeps for them.
+ *
  * @author Martin Baldwin
  * @version May 2022
  */
 public class GameWorld extends World {
-	private static final int SPRAY_INTERVAL = 10000;
-	private static final int COIN_INTERVAL = 4000;
-	private static final GreenfootSound MUSIC_INTRO_SOUND = new GreenfootSound("sounds/new-super-mario-bros-wii-battle-intro.mp3");
-	private static final GreenfootSound MUSIC_SOUND = new GreenfootSound("sounds/new-super-mario-bros-wii-battle.mp3");
-	private static final GreenfootSound COIN_SOUND = new GreenfootSound("sounds/new-super-mario-bros-wii-coin.mp3");
+	private static final GreenfootSound MUSIC_INTRO_SOUND = Assets.getSound("sounds/new-super-mario-bros-wii-battle-intro.mp3");
+	private static final GreenfootSound MUSIC_SOUND = Assets.getSound("sounds/new-super-mario-bros-wii-battle.mp3");
+	private static final int GLASS_SPACING = 70;
+	private static final int GLASSES_PER_ROW = 20;
+	// Number of input recordings kept in the replays folder, the same as the number of metrics files of a session
+	private static final int MAX_REPLAYS = 4;
+
+	// The game being played on screen, whose recordings are finished when another world replaces it
+	private static GameWorld playing = null;
+
+	private GameMode mode;
+	private GameSettings settings;
+	private Input input;
+	// Only set while the input is being recorded
+	private RecordingInput recording = null;
+	private boolean isHeadless;
+	// Every random choice in a game comes from here, so a game can be replayed from its seed
+	private long seed;
+	private Random random;
 
 	private Spider spider;
+	private ActorRegistry registry;
+	private WebMap webMap = new WebMap(600, 400);
+	private GasCloud gasCloud;
+	// Actors that come and go all game long are kept once removed, to be used again
+	private ActorPool<Coin> coinPool = new ActorPool<Coin>();
+	private ActorPool<Spray> sprayPool = new ActorPool<Spray>();
+	private ActorPool<Web> webPool = new ActorPool<Web>();
 	private Web currentWeb = null;
 	private int dragX;
 	private int dragY;
 
+	// Game time only advances while this world is acting, so time spent paused is never counted
+	private GameClock clock = new GameClock();
+	private ActorComponents components;
 	private boolean isOver = false;
 	private int score = 0;
 	private Label scoreLabel = new Label(score, 50);
-	private SimpleTimer timer = new SimpleTimer();
-	private SimpleTimer pauseTimer = new SimpleTimer();
-	private int pauseTime = 0;
-	private SimpleTimer sprayTimer = new SimpleTimer();
-	private SimpleTimer coinTimer = new SimpleTimer();
+	private GameTimer sprayTimer = new GameTimer(clock);
+	private GameTimer coinTimer = new GameTimer(clock);
 	private Label timerLabel = new Label(0, 50);
+	// Number of whole seconds that the timer label is showing
+	private int timerSeconds = -1;
 
 	private GreenfootSound music = MUSIC_INTRO_SOUND;
 
+	// Only set while profiling is turned on
+	private Profiler profiler = null;
+	private ProfilerOverlay profilerOverlay;
+	// Only set while metrics are being recorded
+	private MetricsRecorder metrics = null;
+	private long[] metricsSample = new long[MetricsRecorder.FIELDS];
+	private long metricsTickStart = 0;
+	private int metricsEvents = 0;
+	private int dragCount = 0;
+
 	private Darken darken = new Darken();
 	private Label pausedLabel = new Label("Paused", 100);
 
 	/**
-	 * Create a new game world.
+	 * Create a new game world controlled by the keyboard and mouse.
 	 */
 	public GameWorld(GameMode mode) {
+		this(mode, new GreenfootInput(), false);
+		stopPlaying();
+		playing = this;
+		setMetricsRecorder(new MetricsRecorder(new File("metrics")));
+		// Record the input so that this game can be replayed, keeping only the newest few recordings
+		File directory = new File("replays");
+		try {
+			recordInput(new FileOutputStream(SessionFiles.create(directory, "replay-", ".ssr")));
+			SessionFiles.deleteOldest(directory, "replay-", ".ssr", MAX_REPLAYS);
+		} catch (IOException e) {
+			System.err.println("Not recording input: " + e);
+		}
+	}
+
+	/**
+	 * Create a new game world with random choices that can't be predicted.
+	 *
+	 * @param mode the game mode to play in
+	 * @param input the input that controls this game
+	 * @param isHeadless whether or not this game runs without a display, in which case nothing is drawn and no sound is played
+	 */
+	public GameWorld(GameMode mode, Input input, boolean isHeadless) {
+		this(mode, input, isHeadless, new Random().nextLong());
+	}
+
+	/**
+	 * Create a new game world.
+	 *
+	 * @param mode the game mode to play in
+	 * @param input the input that controls this game
+	 * @param isHeadless whether or not this game runs without a display, in which case nothing is drawn and no sound is played
+	 * @param seed the seed for all random choices in this game; games with the same seed and input play out the same
+	 */
+	public GameWorld(GameMode mode, Input input, boolean isHeadless, long seed) {
+		this(mode, input, isHeadless, seed, GameSettings.DEFAULT);
+	}
+
+	/**
+	 * Create a new game world with settings other than the usual ones.
+	 *
+	 * @param mode the game mode to play in
+	 * @param input the input that controls this game
+	 * @param isHeadless whether or not this game runs without a display, in which case nothing is drawn and no sound is played
+	 * @param seed the seed for all random choices in this game; games with the same seed and input play out the same
+	 * @param settings the settings that decide how hard this game is
+	 */
+	public GameWorld(GameMode mode, Input input, boolean isHeadless, long seed, GameSettings settings) {
 		// Create a new world with 600x400 cells with a cell size of 1x1 pixels.
 		super(600, 400, 1, false);
-		// Stop music if it was playing from a previous game
-		MUSIC_SOUND.stop();
-		setPaintOrder(Button.class, Label.class, Darken.class, Heart.class, Glass.class, GlassShadow.class, Gas.class, Spray.class, Spider.class, Coin.class, Web.class);
+		this.mode = mode;
+		this.settings = settings;
+		registry = new ActorRegistry(settings.getMaxWebCount(), getWidth(), getHeight());
+		this.input = input;
+		this.isHeadless = isHeadless;
+		this.seed = seed;
+		random = new Random(seed);
+		components = new ActorComponents(clock, isHeadless);
+		if (!isHeadless) {
+			// Stop music if it was playing from a previous game
+			MUSIC_SOUND.stop();
+		}
+		setPaintOrder(ProfilerOverlay.class, Button.class, Label.class, Darken.class, Heart.class, Glass.class, GlassShadow.class, GasCloud.class, Spray.class, Spider.class, Coin.class, Web.class);
 		GreenfootImage image = getBackground();
 		image.setColor(new Color(128, 128, 128));
 		image.fill();
-		spider = new Spider();
+		spider = new Spider(components);
 		addObject(spider, 300, 200);
 		createInitialWeb();
-		if (mode == GameMode.HARD) {
-			addObject(new Glass(), 650, 450);
+		gasCloud = new GasCloud(clock);
+		addObject(gasCloud, 300, 200);
+		if (mode != GameMode.EASY) {
+			// Glasses start below the world, lined up leftwards from its bottom right corner
+			for (int i = 0; i < settings.getGlassCount(); i++) {
+				addObject(new Glass(components), 650 - (i % GLASSES_PER_ROW) * GLASS_SPACING, 450 + (i / GLASSES_PER_ROW) * GLASS_SPACING);
+			}
 		}
 		addObject(scoreLabel, 25, 25);
 		addObject(timerLabel, 550, 25);
-		music.play();
+		if (!isHeadless) {
+			music.play();
+		}
 	}
 
 	/**
@@ -64,16 +169,323 @@ public class GameWorld extends World {
 		return spider;
 	}
 
+	/**
+	 * Return the registry of the actors in this world that are often looked for.
+	 */
+	public ActorRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * Return the cloud holding all of this game's gas.
+	 */
+	public GasCloud getGasCloud() {
+		return gasCloud;
+	}
+
+	/**
+	 * Return the clock that measures this game's time.
+	 */
+	public GameClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Return the data of the animated actors in this game.
+	 */
+	public ActorComponents getComponents() {
+		return components;
+	}
+
+	/**
+	 * Return the profiler measuring this game, or null if profiling is turned off.
+	 */
+	public Profiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Turn profiling on or off. While on, how long everything takes to act is measured and shown over the game.
+	 *
+	 * @param isProfiling true to start profiling, false to stop
+	 */
+	public void setProfiling(boolean isProfiling) {
+		if (isProfiling == (profiler != null)) {
+			return;
+		}
+		if (isProfiling) {
+			profiler = new Profiler();
+			profilerOverlay = new ProfilerOverlay(profiler);
+			addObject(profilerOverlay, 0, 0);
+		} else {
+			removeObject(profilerOverlay);
+			profiler = null;
+			profilerOverlay = null;
+		}
+	}
+
+	/**
+	 * Finish the recordings of the game being played on screen, if any, because it is being left for another world.
+	 * Greenfoot has no way to tell a world it was replaced, so every world that can replace a game calls this.
+	 */
+	public static void stopPlaying() {
+		if (playing != null) {
+			playing.stopRecording();
+			playing = null;
+		}
+	}
+
+	/**
+	 * Record a sample of this game's state every act cycle from now on until the game is over.
+	 *
+	 * @param recorder the recorder to record with, which is started now
+	 */
+	public void setMetricsRecorder(MetricsRecorder recorder) {
+		if (metrics != null) {
+			metrics.close();
+		}
+		metrics = recorder;
+		metricsTickStart = 0;
+		recorder.start();
+	}
+
+	/**
+	 * Note that something happened in this act cycle, for the metrics being recorded.
+	 *
+	 * @param event one of the MetricsRecorder.EVENT constants
+	 */
+	public void addMetricsEvent(int event) {
+		metricsEvents |= event;
+	}
+
+	/**
+	 * Record a sample of this game's state at the end of an act cycle, along with how long the cycle took.
+	 */
+	private void recordMetrics() {
+		long now = System.nanoTime();
+		// The first act cycle, and the first after a pause, have no start to measure from
+		if (metricsTickStart != 0) {
+			metricsSample[MetricsRecorder.TICK] = clock.getTicks();
+			metricsSample[MetricsRecorder.TICK_NANOS] = now - metricsTickStart;
+			metricsSample[MetricsRecorder.WEBS] = registry.getWebs().size();
+			metricsSample[MetricsRecorder.GAS] = gasCloud.getCount();
+			metricsSample[MetricsRecorder.SPRAYS] = registry.getSprays().size();
+			metricsSample[MetricsRecorder.COINS] = registry.getCoins().size();
+			metricsSample[MetricsRecorder.DRAGS] = dragCount;
+			metricsSample[MetricsRecorder.SCORE] = score;
+			metricsSample[MetricsRecorder.LIVES] = spider.getLives();
+			metricsSample[MetricsRecorder.EVENTS] = metricsEvents;
+			metrics.record(metricsSample);
+		}
+		metricsTickStart = now;
+		metricsEvents = 0;
+		dragCount = 0;
+	}
+
+	/**
+	 * Return the mode this game is played in.
+	 */
+	public GameMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Return the settings that decide how hard this game is.
+	 */
+	public GameSettings getSettings() {
+		return settings;
+	}
+
+	/**
+	 * Return the seed of this game's random choices.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Return a random number from this game's random choices.
+	 *
+	 * @param limit the limit of the number
+	 * @return a number from 0 up to but not including the limit
+	 */
+	public int getRandomNumber(int limit) {
+		return random.nextInt(limit);
+	}
+
+	/**
+	 * Record this game's input from now on, so that it can be replayed by a ReplayInput. Recording from the start of
+	 * a game replays it exactly.
+	 *
+	 * @param out the stream to write the recording to, which is closed when the game is over or left
+	 * @throws IOException if the start of the recording could not be written
+	 */
+	public void recordInput(OutputStream out) throws IOException {
+		recording = new RecordingInput(input, out, mode, seed, settings);
+		input = recording;
+	}
+
+	/**
+	 * Return the input that controls this game.
+	 */
+	public Input getInput() {
+		return input;
+	}
+
+	/**
+	 * Return whether or not this game runs without a display.
+	 */
+	public boolean isHeadless() {
+		return isHeadless;
+	}
+
+	/**
+	 * Return the number of coins collected in this game.
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Play a sound effect, unless this game runs without a display.
+	 *
+	 * @param effect the effect to play, one of the effect constants of SoundMixer
+	 */
+	public void playEffect(int effect) {
+		if (!isHeadless) {
+			SoundMixer.getInstance().play(effect);
+		}
+	}
+
+	/**
+	 * Stop recording metrics and finish recording the input, closing their files.
+	 */
+	private void stopRecording() {
+		if (metrics != null) {
+			metrics.close();
+			metrics = null;
+		}
+		if (recording != null) {
+			recording.close();
+		}
+	}
+
 	/**
 	 * Create the web that the spider is to begin a life on.
 	 */
 	public void createInitialWeb() {
-		Web web = new Web(200, 100);
+		Web web = createWeb(200, 100);
 		addObject(web, 0, 0);
 		web.drag(400, 300);
 		web.lockIn();
 	}
 
+	/**
+	 * Return a web starting at a position, reusing a removed web if there is one.
+	 *
+	 * @param startX the position of the left side of the web
+	 * @param startY the position of the top of the web
+	 */
+	private Web createWeb(int startX, int startY) {
+		Web web = webPool.take();
+		if (web == null) {
+			return new Web(components, startX, startY);
+		}
+		web.reset(startX, startY);
+		return web;
+	}
+
+	/**
+	 * Return a coin, reusing a removed coin if there is one.
+	 */
+	private Coin createCoin() {
+		Coin coin = coinPool.take();
+		if (coin == null) {
+			return new Coin(components);
+		}
+		coin.reset();
+		return coin;
+	}
+
+	/**
+	 * Return a spray, reusing a removed spray if there is one.
+	 */
+	private Spray createSpray() {
+		Spray spray = sprayPool.take();
+		if (spray == null) {
+			return new Spray(components);
+		}
+		spray.reset();
+		return spray;
+	}
+
+	/**
+	 * Mark the area of a web as somewhere the spider may walk, once it is locked in.
+	 *
+	 * @param web the web that was locked in
+	 */
+	public void addLockedWeb(Web web) {
+		webMap.add(web);
+		addMetricsEvent(MetricsRecorder.EVENT_WEB_LOCKED);
+	}
+
+	/**
+	 * Check if a point in this world is on top of a locked web.
+	 *
+	 * @param x the x-coordinate of the point
+	 * @param y the y-coordinate of the point
+	 * @return true if the point is on a locked web, false if not
+	 */
+	public boolean isOnWeb(int x, int y) {
+		return webMap.isCovered(x, y);
+	}
+
+	/**
+	 * Add an object to this world, keeping track of it in the registry.
+	 *
+	 * @param object the new object to add
+	 * @param x the x coordinate of the location where the object is added
+	 * @param y the y coordinate of the location where the object is added
+	 */
+	public void addObject(Actor object, int x, int y) {
+		boolean isNew = object.getWorld() != this;
+		super.addObject(object, x, y);
+		if (isNew) {
+			registry.add(object);
+			if (object instanceof AnimatedActor) {
+				components.activate(((AnimatedActor) object).getSlot());
+			}
+		}
+	}
+
+	/**
+	 * Remove an object from this world, forgetting the area of a web once it is gone, and keeping coins, sprays and
+	 * webs to be used again.
+	 *
+	 * @param object the object to remove
+	 */
+	public void removeObject(Actor object) {
+		if (object.getWorld() == this) {
+			registry.remove(object);
+			if (object instanceof AnimatedActor) {
+				components.deactivate(((AnimatedActor) object).getSlot());
+			}
+			if (object instanceof Web) {
+				webMap.remove((Web) object);
+				if (object == currentWeb) {
+					// A web faded away while still being dragged; the rest of the drag is ignored
+					currentWeb = null;
+				}
+				webPool.release((Web) object);
+			} else if (object instanceof Coin) {
+				coinPool.release((Coin) object);
+			} else if (object instanceof Spray) {
+				sprayPool.release((Spray) object);
+			}
+		}
+		super.removeObject(object);
+	}
+
 	/**
 	 * Remove a coin from this world, increase the score, and play the sound effect.
 	 *
@@ -82,23 +494,27 @@ public class GameWorld extends World {
 	public void collectCoin(Coin coin) {
 		removeObject(coin);
 		score++;
+		addMetricsEvent(MetricsRecorder.EVENT_COIN);
+		if (isHeadless) {
+			return;
+		}
 		scoreLabel.setValue(score);
-		// Stop the sound before playing in order to restart it if already playing
-		COIN_SOUND.stop();
-		COIN_SOUND.play();
+		playEffect(SoundMixer.COIN);
 	}
 
 	/**
-	 * Place some number of hearts on screen.
+	 * Show some number of hearts on screen, adding or removing only the hearts at the bottom of the line.
 	 *
-	 * @param count the number of hearts to add
+	 * @param count the number of hearts to show
 	 */
 	public void updateHearts(int count) {
-		// Remove all existing hearts
-		removeObjects(getObjects(Heart.class));
+		ActorList<Heart> hearts = registry.getHearts();
+		while (hearts.size() > count) {
+			removeObject(hearts.get(hearts.size() - 1));
+		}
 		// Add new hearts in a vertical line
-		for (int i = 0; i < count; i++) {
-			addObject(new Heart(), 50, 150 + i * 75);
+		while (hearts.size() < count) {
+			addObject(new Heart(components), 50, 150 + hearts.size() * 75);
 		}
 	}
 
@@ -107,6 +523,11 @@ public class GameWorld extends World {
 	 */
 	public void gameOver() {
 		isOver = true;
+		if (metrics != null) {
+			// Record the last act cycle of the game before stopping
+			recordMetrics();
+		}
+		stopRecording();
 		addObject(darken, 0, 0);
 		addObject(new Label("Game Over", 100), 300, 150);
 		addObject(new Button("Easy", 50, Color.BLACK, new Color(160, 255, 160), new Color(144, 224, 144), new EasyCallback()), 200, 300);
@@ -117,12 +538,11 @@ public class GameWorld extends World {
 	 * Fade away all bad actors so that the spider isn't immediately killed again
 	 */
 	public void fadeAwayAllBad() {
-		for (Spray spray : getObjects(Spray.class)) {
-			spray.fadeAway();
-		}
-		for (Gas gas : getObjects(Gas.class)) {
-			gas.fadeAway();
+		ActorList<Spray> sprays = registry.getSprays();
+		for (int i = 0; i < sprays.size(); i++) {
+			sprays.get(i).fadeAway();
 		}
+		gasCloud.fadeAway();
 	}
 
 	/**
@@ -133,52 +553,223 @@ public class GameWorld extends World {
 	}
 
 	/**
-	 * Update this game.
+	 * Format a number of seconds as minutes and seconds, such as 1:05.
+	 *
+	 * @param time the number of seconds
+	 * @return the time as text
+	 */
+	public static String formatTime(int time) {
+		int seconds = time % 60;
+		// Add leading zero if seconds is only one digit
+		return (time / 60) + (seconds < 10 ? ":0" : ":") + seconds;
+	}
+
+	/**
+	 * Act by running every system of this game once, timing each system if the game is being profiled.
 	 */
 	public void act() {
+		if (metrics != null) {
+			recordMetrics();
+		}
+		if (profiler != null) {
+			profiler.startTick();
+		}
+		if (isOver) {
+			return;
+		}
+		clock.tick();
+		// The work of each class of actor is timed under its name; a class timed more than once is added up
+		long start = startProfiling();
+		updateInput();
+		start = profile("input", start);
+		updateDrawing();
+		start = profile(Web.class, start);
+		spawnSprays();
+		start = profile(Spray.class, start);
+		spawnCoins();
+		start = profile(Coin.class, start);
+		// The systems run in the order the actors used to act in, so the random numbers are drawn in the same order and
+		// a seeded game plays out as it always has: the spider, the gas, the glasses and then the sprays
+		spider.update();
+		start = profile(Spider.class, start);
 		if (isOver) {
+			// Nothing else moves once the spider has finished falling for the last time
 			return;
 		}
+		gasCloud.update();
+		start = profile(GasCloud.class, start);
+		updateGlasses();
+		start = profile(Glass.class, start);
+		updateSprays();
+		start = profile(Spray.class, start);
+		updateWebImages();
+		start = profile(Web.class, start);
+		components.updateAnimations();
+		start = profile("animation", start);
+		components.updateFades();
+		start = profile("fade", start);
+		if (!isHeadless) {
+			updateDisplay();
+			profile("display", start);
+		}
+		if (profiler != null) {
+			countActors();
+		}
+	}
+
+	/**
+	 * Give the profiler the number of each class of actor in this game, since its systems are timed over all of them.
+	 */
+	private void countActors() {
+		profiler.count(Spider.class, spider.getWorld() == null ? 0 : 1);
+		profiler.count(Web.class, registry.getWebs().size());
+		profiler.count(Spray.class, registry.getSprays().size());
+		profiler.count(GasCloud.class, gasCloud.getCount());
+		profiler.count(Coin.class, registry.getCoins().size());
+		profiler.count(Heart.class, registry.getHearts().size());
+		profiler.count(Glass.class, registry.getGlasses().size());
+	}
 
+	/**
+	 * Return the time that the first system starts running at, or 0 if this game isn't being profiled.
+	 */
+	private long startProfiling() {
+		return profiler == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Record how long the work of a class of actor took, if this game is being profiled.
+	 *
+	 * @param type the class whose actors were just updated
+	 * @param start the time the work started at, or 0 if it wasn't timed
+	 * @return the time that the next system starts running at, or 0 if this game isn't being profiled
+	 */
+	private long profile(Class<?> type, long start) {
+		return profile(type.getName(), start);
+	}
+
+	/**
+	 * Record how long a system took to run, if this game is being profiled.
+	 *
+	 * @param system the name of the system that just finished
+	 * @param start the time the system started running at, or 0 if it wasn't timed
+	 * @return the time that the next system starts running at, or 0 if this game isn't being profiled
+	 */
+	private long profile(String system, long start) {
+		if (profiler == null) {
+			return 0;
+		}
+		if (start != 0) {
+			profiler.record(system, start);
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * Read this act cycle's input.
+	 */
+	private void updateInput() {
+		input.poll();
+		if (input.isProfilerKeyPressed()) {
+			setProfiling(profiler == null);
+		}
+	}
+
+	/**
+	 * Draw webs with the mouse.
+	 */
+	private void updateDrawing() {
 		// Create new webs when the mouse is pressed
-		if (Greenfoot.mousePressed(null)) {
-			MouseInfo mouse = Greenfoot.getMouseInfo();
-			currentWeb = new Web(mouse.getX(), mouse.getY());
+		if (input.isMousePressed()) {
+			currentWeb = createWeb(input.getMouseX(), input.getMouseY());
 			addObject(currentWeb, 0, 0);
 		}
 		// Update the current web while dragging the mouse
-		if (Greenfoot.mouseDragged(null)) {
-			MouseInfo mouse = Greenfoot.getMouseInfo();
-			currentWeb.drag(mouse.getX(), mouse.getY());
+		if (input.isMouseDragged() && currentWeb != null) {
+			currentWeb.drag(input.getMouseX(), input.getMouseY());
+			dragCount++;
 		}
 		// Lock in the current web after a mouse drag has ended
-		if (Greenfoot.mouseDragEnded(null)) {
+		if (input.isMouseDragEnded() && currentWeb != null) {
 			currentWeb.lockIn();
 			currentWeb = null;
 		}
+	}
 
+	/**
+	 * Add a new spray when one is due.
+	 */
+	private void spawnSprays() {
 		// Add new sprays every once in a while
-		if (sprayTimer.millisElapsed() >= SPRAY_INTERVAL) {
-			addObject(new Spray(), 0, 0);
+		if (sprayTimer.millisElapsed() >= settings.getSprayInterval()) {
+			addObject(createSpray(), 0, 0);
 			sprayTimer.mark();
+			addMetricsEvent(MetricsRecorder.EVENT_SPRAY);
 		}
+	}
+
+	/**
+	 * Add a new coin when one is due.
+	 */
+	private void spawnCoins() {
 		// Add new coins every once in a while
-		if (coinTimer.millisElapsed() >= COIN_INTERVAL) {
-			int x = Greenfoot.getRandomNumber(getWidth());
-			int y = Greenfoot.getRandomNumber(getHeight());
-			addObject(new Coin(), x, y);
+		if (coinTimer.millisElapsed() >= settings.getCoinInterval()) {
+			int x = getRandomNumber(getWidth());
+			int y = getRandomNumber(getHeight());
+			addObject(createCoin(), x, y);
 			coinTimer.mark();
 		}
+	}
 
-		// Draw time
-		int time = timer.millisElapsed() - pauseTime;
-		String minutes = String.valueOf(time / 60000);
-		String seconds = String.valueOf(time / 1000 % 60);
-		// Add leading zero if seconds is only one digit
-		if (seconds.length() < 2) {
-			seconds = "0" + seconds;
+	/**
+	 * Move each glass, and capture the spider with it if it has just come down.
+	 */
+	private void updateGlasses() {
+		ActorList<Glass> glasses = registry.getGlasses();
+		for (int i = 0; i < glasses.size(); i++) {
+			Glass glass = glasses.get(i);
+			glass.updateMovement();
+			glass.updateCapture();
+		}
+	}
+
+	/**
+	 * Spray gas from the sprays that are due to, then move the sprays.
+	 */
+	private void updateSprays() {
+		// Sprays spray in the order they were added, which is the order that they draw random numbers in
+		ActorList<Spray> sprays = registry.getSprays();
+		for (int i = 0; i < sprays.size(); i++) {
+			sprays.get(i).updateSpraying();
+		}
+		// Sprays remove themselves once they have left the world, which only moves the sprays after them
+		for (int i = sprays.size() - 1; i >= 0; i--) {
+			sprays.get(i).updateMovement();
+		}
+		// Sprays only set their speeds, and are all moved together
+		components.updateMovement();
+	}
+
+	/**
+	 * Draw webs that were dragged.
+	 */
+	private void updateWebImages() {
+		ActorList<Web> webs = registry.getWebs();
+		for (int i = 0; i < webs.size(); i++) {
+			webs.get(i).updateImage();
+		}
+	}
+
+	/**
+	 * Update what is shown and heard that doesn't affect the game.
+	 */
+	private void updateDisplay() {
+		// Draw time, which only changes once a second
+		int seconds = clock.getMillis() / 1000;
+		if (seconds != timerSeconds) {
+			timerSeconds = seconds;
+			timerLabel.setValue(formatTime(seconds));
 		}
-		timerLabel.setValue(minutes + ":" + seconds);
 
 		// Play the looping background music after the intro is finished
 		if (!music.isPlaying()) {
@@ -191,20 +782,24 @@ public class GameWorld extends World {
 	 * Pause the background music and display the paused screen.
 	 */
 	public void stopped() {
+		if (recording != null) {
+			// Don't lose the recording if the game is never resumed
+			recording.flush();
+		}
 		music.pause();
 		// Don't display the paused screen if the game over screen is shown
 		if (!isOver) {
 			addObject(darken, 0, 0);
 			addObject(pausedLabel, 300, 200);
 		}
-		// Keep track of how much time was spent paused
-		pauseTimer.mark();
 	}
 
 	/**
 	 * Resume the background music and remove the paused screen.
 	 */
 	public void started() {
+		// Time spent paused isn't part of any act cycle
+		metricsTickStart = 0;
 		if (music == MUSIC_INTRO_SOUND) {
 			music.play();
 		} else {
@@ -214,7 +809,5 @@ public class GameWorld extends World {
 			removeObject(darken);
 			removeObject(pausedLabel);
 		}
-		// Save the amount of time spent paused to subtract it from the timer
-		pauseTime += pauseTimer.millisElapsed();
 	}
 }
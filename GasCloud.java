@@ -0,0 +1,383 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * All of the gas sprayed from spray cans in a game, moved, animated and drawn together.
+ *
+ * Each puff of gas is a few numbers in arrays rather than an actor of its own, so a tick of gas is one loop however
+ * many sprays are spraying. A puff moves in a straight line at a fixed-point velocity looked up from its rotation when
+ * it is sprayed, so all puffs are moved in one loop that gives the same positions on every platform. A puff is dropped
+ * once it has faded away or has drifted out of the world for good. Puffs are also kept in a grid by location, so
+ * finding gas near a point only looks at the puffs around it.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GasCloud extends Actor {
+	private static final int TYPE_COUNT = 2;
+	private static final int FRAME_COUNT = 2;
+	private static final int ANGLE_RANGE = 60;
+	// The spray's nozzle is 118.1 pixels away from the spray's centre at 45.34 degrees
+	private static final double NOZZLE_DISTANCE = 118.1;
+	private static final double NOZZLE_ANGLE = 45.34;
+	// Distance of the nozzle from the spray's centre along each axis, for each rotation of the spray
+	private static final int[] nozzleXs = new int[360];
+	private static final int[] nozzleYs = new int[360];
+	// Distance outside the world past which a puff can neither be seen nor touch the spider
+	private static final int MARGIN = 80;
+	private static final int INITIAL_CAPACITY = 64;
+	// A little larger than the spider's hit radius, so checking for gas around the spider looks in at most 3x3 cells
+	private static final int GRID_CELL_SIZE = 64;
+
+	private static final GreenfootImage[][] images = new GreenfootImage[TYPE_COUNT][FRAME_COUNT];
+	private static final BufferedImage[][] awtImages = new BufferedImage[TYPE_COUNT][FRAME_COUNT];
+	private static boolean hasLoadedImages = false;
+	private static final AlphaComposite[] composites = new AlphaComposite[256];
+	// Greatest distance from the centre of a puff that its image reaches at any rotation, for each image
+	private static final int[][] reaches = new int[TYPE_COUNT][FRAME_COUNT];
+
+	private GameClock clock;
+
+	// Puffs 0 to count - 1 are in use
+	private int count = 0;
+	// Precise location for fine movement, as fixed-point numbers
+	private int[] x = new int[INITIAL_CAPACITY];
+	private int[] y = new int[INITIAL_CAPACITY];
+	// Fixed-point distance moved along each axis per act cycle
+	private int[] velocityX = new int[INITIAL_CAPACITY];
+	private int[] velocityY = new int[INITIAL_CAPACITY];
+	private int[] rotation = new int[INITIAL_CAPACITY];
+	private int[] type = new int[INITIAL_CAPACITY];
+	private int[] frame = new int[INITIAL_CAPACITY];
+	// Tick at which each puff's animation frame last changed
+	private long[] frameMark = new long[INITIAL_CAPACITY];
+	private int[] transparency = new int[INITIAL_CAPACITY];
+	private boolean[] isFading = new boolean[INITIAL_CAPACITY];
+	// Square area of the canvas that each puff was last drawn within, which has to be cleared before it is drawn again
+	private int[] drawnX = new int[INITIAL_CAPACITY];
+	private int[] drawnY = new int[INITIAL_CAPACITY];
+	private int[] drawnSize = new int[INITIAL_CAPACITY];
+	// Every puff by its location as of the last update, or when sprayed since
+	private UniformGrid grid;
+
+	private GreenfootImage canvas;
+	private Graphics2D graphics;
+	private AffineTransform transform = new AffineTransform();
+
+	/**
+	 * Create a new cloud with no gas in it.
+	 *
+	 * @param clock the clock of the game that this cloud belongs to
+	 */
+	public GasCloud(GameClock clock) {
+		this.clock = clock;
+		loadImages();
+	}
+
+	/**
+	 * Load all images that gas uses.
+	 */
+	public static synchronized void loadImages() {
+		if (hasLoadedImages) {
+			return;
+		}
+		for (int type = 0; type < TYPE_COUNT; type++) {
+			for (int i = 0; i < FRAME_COUNT; i++) {
+				images[type][i] = Assets.getImage("images/gas-" + type + "-" + i + ".png");
+				awtImages[type][i] = images[type][i].getAwtImage();
+				// Half of the image's diagonal, plus a pixel for smoothing at the edges
+				reaches[type][i] = (int) Math.ceil(Math.hypot(awtImages[type][i].getWidth(), awtImages[type][i].getHeight()) / 2) + 1;
+			}
+		}
+		for (int i = 0; i < composites.length; i++) {
+			composites[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, i / 255f);
+		}
+		for (int rotation = 0; rotation < 360; rotation++) {
+			// Strict maths, so gas starts in the same place on every platform
+			double radians = StrictMath.toRadians(rotation - NOZZLE_ANGLE);
+			nozzleXs[rotation] = (int) (StrictMath.cos(radians) * NOZZLE_DISTANCE);
+			nozzleYs[rotation] = (int) (StrictMath.sin(radians) * NOZZLE_DISTANCE);
+		}
+		hasLoadedImages = true;
+	}
+
+	/**
+	 * Cover the world with this cloud's image when added to a world, so gas can be drawn anywhere in it.
+	 */
+	protected void addedToWorld(World world) {
+		setLocation(world.getWidth() / 2, world.getHeight() / 2);
+		grid = new UniformGrid(world.getWidth(), world.getHeight(), GRID_CELL_SIZE);
+		if (((GameWorld) world).isHeadless()) {
+			return;
+		}
+		canvas = new GreenfootImage(world.getWidth(), world.getHeight());
+		graphics = canvas.getAwtImage().createGraphics();
+		setImage(canvas);
+	}
+
+	/**
+	 * Return the number of puffs of gas in this cloud.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Return the x-coordinate of the centre of a puff.
+	 *
+	 * @param i the index of the puff, from 0 up to but not including the number of puffs
+	 */
+	public double getPuffX(int i) {
+		return Kinematics.toDouble(x[i]);
+	}
+
+	/**
+	 * Return the y-coordinate of the centre of a puff.
+	 *
+	 * @param i the index of the puff, from 0 up to but not including the number of puffs
+	 */
+	public double getPuffY(int i) {
+		return Kinematics.toDouble(y[i]);
+	}
+
+	/**
+	 * Return the distance a puff moves along the x-axis each act cycle.
+	 *
+	 * @param i the index of the puff, from 0 up to but not including the number of puffs
+	 */
+	public double getPuffVelocityX(int i) {
+		return Kinematics.toDouble(velocityX[i]);
+	}
+
+	/**
+	 * Return the distance a puff moves along the y-axis each act cycle.
+	 *
+	 * @param i the index of the puff, from 0 up to but not including the number of puffs
+	 */
+	public double getPuffVelocityY(int i) {
+		return Kinematics.toDouble(velocityY[i]);
+	}
+
+	/**
+	 * Spray a new puff of gas out of a spray's nozzle.
+	 *
+	 * @param spray the spray that is spraying
+	 */
+	public void add(Spray spray) {
+		if (count == x.length) {
+			grow();
+		}
+		GameWorld world = (GameWorld) getWorld();
+		int i = count++;
+		type[i] = world.getRandomNumber(TYPE_COUNT);
+		// Start at the spray's nozzle
+		int sprayRotation = Kinematics.normalize(spray.getRotation());
+		x[i] = Kinematics.toFixed(spray.getX() + nozzleXs[sprayRotation]);
+		y[i] = Kinematics.toFixed(spray.getY() + nozzleYs[sprayRotation]);
+		// Head at a random angle relative to the rotation of the spray
+		int angleOffset = world.getRandomNumber(ANGLE_RANGE) - ANGLE_RANGE / 2;
+		int angle = Kinematics.normalize(sprayRotation + angleOffset);
+		rotation[i] = angle;
+		velocityX[i] = Kinematics.cos(angle);
+		velocityY[i] = Kinematics.sin(angle);
+		frame[i] = 0;
+		frameMark[i] = clock.getTicks();
+		transparency[i] = 255;
+		isFading[i] = false;
+		drawnSize[i] = 0;
+		grid.add(i, Kinematics.toCell(x[i]), Kinematics.toCell(y[i]));
+	}
+
+	/**
+	 * Make room for twice as many puffs.
+	 */
+	private void grow() {
+		int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		rotation = Arrays.copyOf(rotation, capacity);
+		type = Arrays.copyOf(type, capacity);
+		frame = Arrays.copyOf(frame, capacity);
+		frameMark = Arrays.copyOf(frameMark, capacity);
+		transparency = Arrays.copyOf(transparency, capacity);
+		isFading = Arrays.copyOf(isFading, capacity);
+		drawnX = Arrays.copyOf(drawnX, capacity);
+		drawnY = Arrays.copyOf(drawnY, capacity);
+		drawnSize = Arrays.copyOf(drawnSize, capacity);
+	}
+
+	/**
+	 * Drop a puff, moving the last puff into its place.
+	 */
+	private void remove(int i) {
+		if (graphics != null) {
+			// Nothing will be drawn over this puff again unless its area is cleared now
+			clearDrawn(i);
+		}
+		int last = --count;
+		x[i] = x[last];
+		y[i] = y[last];
+		velocityX[i] = velocityX[last];
+		velocityY[i] = velocityY[last];
+		rotation[i] = rotation[last];
+		type[i] = type[last];
+		frame[i] = frame[last];
+		frameMark[i] = frameMark[last];
+		transparency[i] = transparency[last];
+		isFading[i] = isFading[last];
+		drawnX[i] = drawnX[last];
+		drawnY[i] = drawnY[last];
+		drawnSize[i] = drawnSize[last];
+	}
+
+	/**
+	 * Start fading away all gas in this cloud now.
+	 */
+	public void fadeAway() {
+		for (int i = 0; i < count; i++) {
+			isFading[i] = true;
+		}
+	}
+
+	/**
+	 * Check if any gas is within a distance of a point, measured between the point and the centre of each puff.
+	 *
+	 * @param pointX the x-coordinate of the point
+	 * @param pointY the y-coordinate of the point
+	 * @param radius the greatest distance to look within
+	 * @return true if there is gas within range of the point, false if not
+	 */
+	public boolean isInRange(int pointX, int pointY, int radius) {
+		int radiusSquared = radius * radius;
+		int maxColumn = grid.getColumn(pointX + radius);
+		int maxRow = grid.getRow(pointY + radius);
+		for (int row = grid.getRow(pointY - radius); row <= maxRow; row++) {
+			for (int column = grid.getColumn(pointX - radius); column <= maxColumn; column++) {
+				for (int i = grid.getFirst(column, row); i >= 0; i = grid.getNext(i)) {
+					int dx = Kinematics.toCell(x[i]) - pointX;
+					int dy = Kinematics.toCell(y[i]) - pointY;
+					if (dx * dx + dy * dy <= radiusSquared) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a puff has left the world and is moving further away from it, so it will never be back.
+	 */
+	private boolean isGone(int i, int worldWidth, int worldHeight) {
+		// Compare the precise location, since a puff a fraction of a cell past the margin is in the margin's cell
+		return (x[i] < Kinematics.toFixed(-MARGIN) && velocityX[i] <= 0)
+			|| (x[i] >= Kinematics.toFixed(worldWidth + MARGIN) && velocityX[i] >= 0)
+			|| (y[i] < Kinematics.toFixed(-MARGIN) && velocityY[i] <= 0)
+			|| (y[i] >= Kinematics.toFixed(worldHeight + MARGIN) && velocityY[i] >= 0);
+	}
+
+	/**
+	 * Move, animate and fade all gas in this cloud by one act cycle, and draw it. The game world calls this once per
+	 * act cycle.
+	 */
+	public void update() {
+		World world = getWorld();
+		int worldWidth = world.getWidth();
+		int worldHeight = world.getHeight();
+		long now = clock.getTicks();
+		Kinematics.advance(x, y, velocityX, velocityY, count);
+		int i = 0;
+		while (i < count) {
+			// Advance the animation frame
+			if (GameClock.toMillis(now - frameMark[i]) >= AnimatedActor.DEFAULT_FRAME_DELAY) {
+				frame[i] = (frame[i] + 1) % FRAME_COUNT;
+				frameMark[i] = now;
+			}
+			if (isFading[i]) {
+				transparency[i] -= AnimatedActor.FADE_INTERVAL;
+				if (transparency[i] <= 0) {
+					remove(i);
+					continue;
+				}
+			}
+			if (isGone(i, worldWidth, worldHeight)) {
+				remove(i);
+				continue;
+			}
+			i++;
+		}
+		// Puffs have moved and been dropped, so place every puff in the grid again
+		grid.clear();
+		for (i = 0; i < count; i++) {
+			grid.add(i, Kinematics.toCell(x[i]), Kinematics.toCell(y[i]));
+		}
+		if (canvas != null) {
+			draw();
+		}
+	}
+
+	/**
+	 * Clear the area of the canvas that a puff was last drawn within.
+	 */
+	private void clearDrawn(int i) {
+		if (drawnSize[i] == 0) {
+			return;
+		}
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(drawnX[i], drawnY[i], drawnSize[i], drawnSize[i]);
+	}
+
+	/**
+	 * Draw all gas in this cloud onto its image, as Greenfoot would draw rotated actors.
+	 *
+	 * Only the areas that puffs were drawn within last time are cleared, rather than the whole canvas, so drawing
+	 * costs as much as the gas covers however large the world is.
+	 */
+	private void draw() {
+		// Every puff is redrawn, so clearing an area shared with another puff loses nothing. Where puffs overlap a lot,
+		// one rectangle around all of them is less to clear than each of their areas
+		long area = 0;
+		int left = Integer.MAX_VALUE;
+		int top = Integer.MAX_VALUE;
+		int right = Integer.MIN_VALUE;
+		int bottom = Integer.MIN_VALUE;
+		for (int i = 0; i < count; i++) {
+			if (drawnSize[i] == 0) {
+				continue;
+			}
+			area += (long) drawnSize[i] * drawnSize[i];
+			left = Math.min(left, drawnX[i]);
+			top = Math.min(top, drawnY[i]);
+			right = Math.max(right, drawnX[i] + drawnSize[i]);
+			bottom = Math.max(bottom, drawnY[i] + drawnSize[i]);
+		}
+		if (area > 0 && (long) (right - left) * (bottom - top) <= area) {
+			graphics.setComposite(AlphaComposite.Clear);
+			graphics.fillRect(left, top, right - left, bottom - top);
+		} else {
+			for (int i = 0; i < count; i++) {
+				clearDrawn(i);
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			BufferedImage image = awtImages[type[i]][frame[i]];
+			int reach = reaches[type[i]][frame[i]];
+			int cellX = Kinematics.toCell(x[i]);
+			int cellY = Kinematics.toCell(y[i]);
+			drawnX[i] = cellX - reach;
+			drawnY[i] = cellY - reach;
+			drawnSize[i] = reach * 2;
+			transform.setToTranslation(cellX, cellY);
+			transform.rotate(Math.toRadians(rotation[i]));
+			transform.translate(-image.getWidth() / 2, -image.getHeight() / 2);
+			graphics.setComposite(composites[transparency[i]]);
+			graphics.drawImage(image, transform, null);
+		}
+	}
+}
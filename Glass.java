@@ -7,9 +7,6 @@ import greenfoot.*;
  * @version June 2022
  */
 public class Glass extends AnimatedActor {
-	private static final int SPEED = 1;
-	private static final int UP_SPEED = 1;
-	private static final int DOWN_SPEED = 6;
 	private static final int SHADOW_OFFSET = 100;
 	private static final int CAPTURE_OFFSET = 50;
 
@@ -25,32 +22,44 @@ public class Glass extends AnimatedActor {
 	private int targetY;
 	// Y position to return to after capturing
 	private int returnY;
+	// Whether or not this glass came down in this act cycle, and may have captured the spider
+	private boolean isLanding = false;
 
 	private static boolean hasLoadedImages = false;
 	private static final GreenfootImage[] images = new GreenfootImage[2];
 
 	/**
 	 * Create a new glass.
+	 *
+	 * @param components the components of the game that this glass belongs to
 	 */
-	public Glass() {
+	public Glass(ActorComponents components) {
+		super(components);
 		loadImages();
 		setAnimation(images);
-		shadow = new GlassShadow();
+		shadow = new GlassShadow(components);
 	}
 
 	/**
 	 * Load all images that glass actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < images.length; i++) {
-			images[i] = new GreenfootImage("images/glass-" + i + ".png");
+			images[i] = Assets.getImage("images/glass-" + i + ".png");
 		}
 		hasLoadedImages = true;
 	}
 
+	/**
+	 * Return the shadow of this glass, which marks where it will come down.
+	 */
+	public GlassShadow getShadow() {
+		return shadow;
+	}
+
 	/**
 	 * Add this glass's shadow to the world of this glass when it is added to one.
 	 */
@@ -59,14 +68,12 @@ public class Glass extends AnimatedActor {
 	}
 
 	/**
-	 * Update this glass.
+	 * Move this glass one act cycle further along its way to capture the spider.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
-		}
-
-		Spider spider = ((GameWorld) getWorld()).getSpider();
+	public void updateMovement() {
+		GameWorld world = (GameWorld) getWorld();
+		GameSettings settings = world.getSettings();
+		Spider spider = world.getSpider();
 		switch (state) {
 			case FOLLOWING:
 				int spiderX = spider.getX();
@@ -80,7 +87,7 @@ public class Glass extends AnimatedActor {
 				} else {
 					// Follow the spider by moving towards it
 					turnTowards(spiderX, spiderY - SHADOW_OFFSET);
-					move(SPEED);
+					move(settings.getGlassSpeed());
 					// Don't retain the rotation, because the image will look wrong
 					setRotation(0);
 					shadow.setLocation(getX(), getY() + SHADOW_OFFSET);
@@ -89,7 +96,7 @@ public class Glass extends AnimatedActor {
 
 			case MOVING_UP:
 				// First move the glass up before going down
-				setLocation(getX(), getY() - UP_SPEED);
+				setLocation(getX(), getY() - settings.getGlassUpSpeed());
 				// Start moving down once reached the peak
 				if (getY() <= peakY) {
 					state = State.MOVING_DOWN;
@@ -97,25 +104,36 @@ public class Glass extends AnimatedActor {
 				break;
 
 			case MOVING_DOWN:
-				setLocation(getX(), getY() + DOWN_SPEED);
+				setLocation(getX(), getY() + settings.getGlassDownSpeed());
 				if (getY() >= targetY) {
-					// Kill the spider if it was under this glass
-					if (getOneObjectAtOffset(0, CAPTURE_OFFSET, Spider.class) != null) {
-						spider.die();
-					}
+					isLanding = true;
 					// Begin moving back to the position before capture
 					state = State.RETURNING;
 				}
 				break;
 
 			case RETURNING:
-				setLocation(getX(), getY() - UP_SPEED);
+				setLocation(getX(), getY() - settings.getGlassUpSpeed());
 				// Return to following after trying to capture
 				if (getY() <= returnY) {
 					state = State.FOLLOWING;
 				}
 				break;
 		}
-		updateAnimation();
+	}
+
+	/**
+	 * Capture the spider if this glass just came down on it.
+	 */
+	public void updateCapture() {
+		if (!isLanding) {
+			return;
+		}
+		isLanding = false;
+		// Kill the spider if it was under this glass
+		Spider spider = ((GameWorld) getWorld()).getSpider();
+		if (spider.isSolidAt(getX(), getY() + CAPTURE_OFFSET)) {
+			spider.die();
+		}
 	}
 }
@@ -12,8 +12,11 @@ public class GlassShadow extends AnimatedActor {
 
 	/**
 	 * Create a new glass shadow.
+	 *
+	 * @param components the components of the game that this glass shadow belongs to
 	 */
-	public GlassShadow() {
+	public GlassShadow(ActorComponents components) {
+		super(components);
 		loadImages();
 		setAnimation(images);
 	}
@@ -21,12 +24,12 @@ public class GlassShadow extends AnimatedActor {
 	/**
 	 * Load all images that glass shadow actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < images.length; i++) {
-			images[i] = new GreenfootImage("images/glass-shadow-" + i + ".png");
+			images[i] = Assets.getImage("images/glass-shadow-" + i + ".png");
 		}
 		hasLoadedImages = true;
 	}
@@ -0,0 +1,134 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/**
+ * One image holding the digits and the few signs of numbers and times in one font size and colour, so labels that
+ * change every second, such as the timer and the score, can be drawn by copying characters out of it rather than
+ * laying the text out and drawing it again.
+ *
+ * Each character is drawn on its own, so text from an atlas has no kerning and an outline around every character.
+ * That is only close enough to the whole text for digits, which are all as wide as each other in most fonts, so
+ * other text should be drawn whole.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GlyphAtlas {
+	// Every character in an atlas
+	private static final String CHARACTERS = "0123456789:-";
+	private static final Color TRANSPARENT = new Color(0, 0, 0, 0);
+
+	// Atlases already drawn, by font size and colours
+	private static final HashMap<String, GlyphAtlas> atlases = new HashMap<String, GlyphAtlas>();
+
+	private BufferedImage image;
+	private int height;
+	// Position and width of each character in the image, in the order of CHARACTERS
+	private int[] glyphX = new int[CHARACTERS.length()];
+	private int[] glyphWidth = new int[CHARACTERS.length()];
+
+	/**
+	 * Return the atlas for a font size and colours, drawing it the first time it is needed.
+	 *
+	 * @param fontSize the size of the font
+	 * @param fillColor the colour inside each character
+	 * @param lineColor the colour of the outline around each character
+	 */
+	public static synchronized GlyphAtlas get(int fontSize, Color fillColor, Color lineColor) {
+		String key = fontSize + " " + toKey(fillColor) + " " + toKey(lineColor);
+		GlyphAtlas atlas = atlases.get(key);
+		if (atlas == null) {
+			atlas = new GlyphAtlas(fontSize, fillColor, lineColor);
+			atlases.put(key, atlas);
+		}
+		return atlas;
+	}
+
+	/**
+	 * Return a colour as text, to tell colours apart in the keys of the atlases.
+	 */
+	private static String toKey(Color color) {
+		return color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "," + color.getAlpha();
+	}
+
+	/**
+	 * Draw every character side by side into one image.
+	 */
+	private GlyphAtlas(int fontSize, Color fillColor, Color lineColor) {
+		GreenfootImage[] glyphs = new GreenfootImage[glyphX.length];
+		int width = 0;
+		for (int i = 0; i < glyphs.length; i++) {
+			glyphs[i] = new GreenfootImage(String.valueOf(CHARACTERS.charAt(i)), fontSize, fillColor, TRANSPARENT, lineColor);
+			glyphX[i] = width;
+			glyphWidth[i] = glyphs[i].getWidth();
+			width += glyphWidth[i];
+			height = Math.max(height, glyphs[i].getHeight());
+		}
+		GreenfootImage atlas = new GreenfootImage(width, height);
+		for (int i = 0; i < glyphs.length; i++) {
+			atlas.drawImage(glyphs[i], glyphX[i], 0);
+		}
+		image = atlas.getAwtImage();
+	}
+
+	/**
+	 * Check if a piece of text can be drawn from this atlas, which holds only the characters of numbers and times.
+	 *
+	 * @param text the text to check
+	 * @return true if every character of the text is in this atlas and there is at least one, false if not
+	 */
+	public boolean canDraw(String text) {
+		if (text.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (CHARACTERS.indexOf(text.charAt(i)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the width of a piece of text drawn from this atlas.
+	 *
+	 * @param text the text to measure, which must be drawable from this atlas
+	 */
+	public int getWidth(String text) {
+		int width = 0;
+		for (int i = 0; i < text.length(); i++) {
+			width += glyphWidth[CHARACTERS.indexOf(text.charAt(i))];
+		}
+		return width;
+	}
+
+	/**
+	 * Return the height of text drawn from this atlas.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Replace the contents of an image with a piece of text drawn from this atlas.
+	 *
+	 * @param text the text to draw, which must be drawable from this atlas
+	 * @param target the image to draw onto, at least as large as the text
+	 */
+	public void draw(String text, GreenfootImage target) {
+		Graphics2D graphics = target.getAwtImage().createGraphics();
+		// Copy characters over whatever was there before, transparent pixels included
+		graphics.setComposite(AlphaComposite.Src);
+		int x = 0;
+		for (int i = 0; i < text.length(); i++) {
+			int glyph = CHARACTERS.indexOf(text.charAt(i));
+			int width = glyphWidth[glyph];
+			graphics.drawImage(image, x, 0, x + width, height, glyphX[glyph], 0, glyphX[glyph] + width, height, null);
+			x += width;
+		}
+		graphics.dispose();
+	}
+}
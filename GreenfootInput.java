@@ -0,0 +1,38 @@
+import greenfoot.*;
+
+/**
+ * Input read from the keyboard and mouse through Greenfoot.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class GreenfootInput extends Input {
+	private boolean wasProfilerKeyDown = false;
+
+	/**
+	 * Sample the keyboard and mouse for the current act cycle.
+	 */
+	public void poll() {
+		setKeys(
+			Greenfoot.isKeyDown("a") || Greenfoot.isKeyDown("left"),
+			Greenfoot.isKeyDown("d") || Greenfoot.isKeyDown("right"),
+			Greenfoot.isKeyDown("w") || Greenfoot.isKeyDown("up"),
+			Greenfoot.isKeyDown("s") || Greenfoot.isKeyDown("down"));
+		// The profiler key only counts as pressed in the act cycle it goes down
+		boolean isProfilerKeyDown = Greenfoot.isKeyDown("f3");
+		setProfilerKeyPressed(isProfilerKeyDown && !wasProfilerKeyDown);
+		wasProfilerKeyDown = isProfilerKeyDown;
+		boolean isPressed = Greenfoot.mousePressed(null);
+		boolean isDragged = Greenfoot.mouseDragged(null);
+		boolean isDragEnded = Greenfoot.mouseDragEnded(null);
+		// Keep the last known position if the mouse has not done anything in this act cycle
+		int x = getMouseX();
+		int y = getMouseY();
+		MouseInfo mouse = Greenfoot.getMouseInfo();
+		if (mouse != null) {
+			x = mouse.getX();
+			y = mouse.getY();
+		}
+		setMouse(isPressed, isDragged, isDragEnded, x, y);
+	}
+}
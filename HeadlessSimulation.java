@@ -0,0 +1,125 @@
+import greenfoot.*;
+
+/**
+ * Runs a game world without a display, as fast as the game rules can be computed.
+ *
+ * Each step acts the world and then every actor that acts on its own, in the same order Greenfoot does during
+ * interactive play.
+ * Nothing is drawn and no sound is played, but the game rules are exactly the same.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class HeadlessSimulation {
+	private SimulatedInput input;
+	private GameWorld world;
+	private long ticks = 0;
+
+	/**
+	 * Create a new headless simulation of a game with random choices that can't be predicted.
+	 *
+	 * @param mode the game mode to simulate
+	 */
+	public HeadlessSimulation(GameMode mode) {
+		input = new SimulatedInput();
+		world = new GameWorld(mode, input, true);
+	}
+
+	/**
+	 * Create a new headless simulation of a game, which plays out the same every time for the same input.
+	 *
+	 * @param mode the game mode to simulate
+	 * @param seed the seed for all random choices in the game
+	 */
+	public HeadlessSimulation(GameMode mode, long seed) {
+		this(mode, seed, GameSettings.DEFAULT);
+	}
+
+	/**
+	 * Create a new headless simulation of a game with settings other than the usual ones, which plays out the same
+	 * every time for the same input.
+	 *
+	 * @param mode the game mode to simulate
+	 * @param seed the seed for all random choices in the game
+	 * @param settings the settings that decide how hard the game is
+	 */
+	public HeadlessSimulation(GameMode mode, long seed, GameSettings settings) {
+		input = new SimulatedInput();
+		world = new GameWorld(mode, input, true, seed, settings);
+	}
+
+	/**
+	 * Create a new headless simulation replaying a recorded game, which plays out exactly as it was recorded.
+	 *
+	 * @param replay the recording to play back
+	 */
+	public HeadlessSimulation(ReplayInput replay) {
+		world = new GameWorld(replay.getMode(), replay, true, replay.getSeed(), replay.getSettings());
+	}
+
+	/**
+	 * Return the world being simulated.
+	 */
+	public GameWorld getWorld() {
+		return world;
+	}
+
+	/**
+	 * Return the input which controls the simulated game, or null if the game is a replay.
+	 */
+	public SimulatedInput getInput() {
+		return input;
+	}
+
+	/**
+	 * Return the number of act cycles simulated so far.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Simulate one act cycle.
+	 */
+	public void step() {
+		world.act();
+		// The rest of the actors are updated by the world's systems, so only these have anything to do
+		ActorList<Actor> actors = world.getRegistry().getActingActors();
+		// Actors added while acting wait until the next act cycle, as they do in Greenfoot
+		int count = actors.size();
+		for (int i = 0; i < count && i < actors.size(); i++) {
+			Actor actor = actors.get(i);
+			// Actors removed earlier in this cycle don't act
+			if (actor.getWorld() == world) {
+				actor.act();
+			}
+		}
+		ticks++;
+	}
+
+	/**
+	 * Simulate a number of act cycles.
+	 *
+	 * @param count the number of act cycles to simulate
+	 */
+	public void run(int count) {
+		for (int i = 0; i < count; i++) {
+			step();
+		}
+	}
+
+	/**
+	 * Simulate until the game is over or a number of act cycles have passed.
+	 *
+	 * @param maxCount the greatest number of act cycles to simulate
+	 * @return the number of act cycles that were simulated
+	 */
+	public int runUntilOver(int maxCount) {
+		int count = 0;
+		while (count < maxCount && !world.isOver()) {
+			step();
+			count++;
+		}
+		return count;
+	}
+}
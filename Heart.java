@@ -12,8 +12,11 @@ public class Heart extends AnimatedActor {
 
 	/**
 	 * Create a new heart.
+	 *
+	 * @param components the components of the game that this heart belongs to
 	 */
-	public Heart() {
+	public Heart(ActorComponents components) {
+		super(components);
 		loadImages();
 		setAnimation(images);
 	}
@@ -21,12 +24,12 @@ public class Heart extends AnimatedActor {
 	/**
 	 * Load all images that heart actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < images.length; i++) {
-			images[i] = new GreenfootImage("images/heart-" + i + ".png");
+			images[i] = Assets.getImage("images/heart-" + i + ".png");
 		}
 		hasLoadedImages = true;
 	}
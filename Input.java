@@ -0,0 +1,122 @@
+/**
+ * The state of the player's controls, sampled once per act cycle so that the game reads the same input no matter
+ * where it comes from.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public abstract class Input {
+	private boolean isLeftDown = false;
+	private boolean isRightDown = false;
+	private boolean isUpDown = false;
+	private boolean isDownDown = false;
+	private boolean isMousePressed = false;
+	private boolean isMouseDragged = false;
+	private boolean isMouseDragEnded = false;
+	private boolean isProfilerKeyPressed = false;
+	private int mouseX;
+	private int mouseY;
+
+	/**
+	 * Sample the state of the controls for the current act cycle.
+	 */
+	public abstract void poll();
+
+	/**
+	 * Set the state of the movement keys for the current act cycle.
+	 */
+	protected void setKeys(boolean isLeftDown, boolean isRightDown, boolean isUpDown, boolean isDownDown) {
+		this.isLeftDown = isLeftDown;
+		this.isRightDown = isRightDown;
+		this.isUpDown = isUpDown;
+		this.isDownDown = isDownDown;
+	}
+
+	/**
+	 * Set whether the key that turns the profiler on and off was pressed in the current act cycle.
+	 */
+	protected void setProfilerKeyPressed(boolean isPressed) {
+		isProfilerKeyPressed = isPressed;
+	}
+
+	/**
+	 * Set the state of the mouse for the current act cycle.
+	 */
+	protected void setMouse(boolean isPressed, boolean isDragged, boolean isDragEnded, int x, int y) {
+		isMousePressed = isPressed;
+		isMouseDragged = isDragged;
+		isMouseDragEnded = isDragEnded;
+		mouseX = x;
+		mouseY = y;
+	}
+
+	/**
+	 * Return whether or not the key to move left is held down.
+	 */
+	public boolean isLeftDown() {
+		return isLeftDown;
+	}
+
+	/**
+	 * Return whether or not the key to move right is held down.
+	 */
+	public boolean isRightDown() {
+		return isRightDown;
+	}
+
+	/**
+	 * Return whether or not the key to move up is held down.
+	 */
+	public boolean isUpDown() {
+		return isUpDown;
+	}
+
+	/**
+	 * Return whether or not the key to move down is held down.
+	 */
+	public boolean isDownDown() {
+		return isDownDown;
+	}
+
+	/**
+	 * Return whether or not the mouse was pressed in this act cycle.
+	 */
+	public boolean isMousePressed() {
+		return isMousePressed;
+	}
+
+	/**
+	 * Return whether or not the mouse was dragged in this act cycle.
+	 */
+	public boolean isMouseDragged() {
+		return isMouseDragged;
+	}
+
+	/**
+	 * Return whether or not a mouse drag ended in this act cycle.
+	 */
+	public boolean isMouseDragEnded() {
+		return isMouseDragEnded;
+	}
+
+	/**
+	 * Return whether or not the key that turns the profiler on and off was pressed in this act cycle.
+	 */
+	public boolean isProfilerKeyPressed() {
+		return isProfilerKeyPressed;
+	}
+
+	/**
+	 * Return the x-coordinate of the mouse.
+	 */
+	public int getMouseX() {
+		return mouseX;
+	}
+
+	/**
+	 * Return the y-coordinate of the mouse.
+	 */
+	public int getMouseY() {
+		return mouseY;
+	}
+}
@@ -17,6 +17,8 @@ public class Label extends Actor
     private int fontSize;
     private Color lineColor = Color.BLACK;
     private Color fillColor = Color.WHITE;
+    // Image that numbers and times are drawn into from a glyph atlas, kept while the text stays the same size
+    private GreenfootImage buffer;
     
     private static final Color transparent = new Color(0,0,0,0);
 
@@ -46,6 +48,10 @@ public class Label extends Actor
      */
     public void setValue(String value)
     {
+        if (value.equals(this.value))
+        {
+            return;
+        }
         this.value = value;
         updateImage();
     }
@@ -57,8 +63,7 @@ public class Label extends Actor
      */
     public void setValue(int value)
     {
-        this.value = Integer.toString(value);
-        updateImage();
+        setValue(Integer.toString(value));
     }
     
     /**
@@ -68,6 +73,10 @@ public class Label extends Actor
      */
     public void setLineColor(Color lineColor)
     {
+        if (lineColor.equals(this.lineColor))
+        {
+            return;
+        }
         this.lineColor = lineColor;
         updateImage();
     }
@@ -79,6 +88,10 @@ public class Label extends Actor
      */
     public void setFillColor(Color fillColor)
     {
+        if (fillColor.equals(this.fillColor))
+        {
+            return;
+        }
         this.fillColor = fillColor;
         updateImage();
     }
@@ -89,6 +102,20 @@ public class Label extends Actor
      */
     private void updateImage()
     {
-        setImage(new GreenfootImage(value, fontSize, fillColor, transparent, lineColor));
+        GlyphAtlas atlas = GlyphAtlas.get(fontSize, fillColor, lineColor);
+        if (!atlas.canDraw(value))
+        {
+            // Words are laid out and drawn whole, keeping the font's kerning and a single outline
+            buffer = null;
+            setImage(new GreenfootImage(value, fontSize, fillColor, transparent, lineColor));
+            return;
+        }
+        int width = atlas.getWidth(value);
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != atlas.getHeight())
+        {
+            buffer = new GreenfootImage(width, atlas.getHeight());
+        }
+        atlas.draw(value, buffer);
+        setImage(buffer);
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Records a sample of a game's state every act cycle to files in the metrics folder, so slow act cycles can be matched
+ * up with what was happening in the game at the time.
+ *
+ * The game only copies each sample into a ring; a background thread takes samples out of the ring, writes them one
+ * line each, and keeps a histogram of act cycle times. The game never waits for a file to be written. Files roll over
+ * once they reach a size, and only the newest few files of a session are kept.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class MetricsRecorder implements Runnable {
+	// Positions of each measurement in a sample
+	public static final int TICK = 0;
+	public static final int TICK_NANOS = 1;
+	public static final int WEBS = 2;
+	public static final int GAS = 3;
+	public static final int SPRAYS = 4;
+	public static final int COINS = 5;
+	public static final int DRAGS = 6;
+	public static final int SCORE = 7;
+	public static final int LIVES = 8;
+	public static final int EVENTS = 9;
+	public static final int FIELDS = 10;
+
+	// Things that happened during an act cycle, combined in the EVENTS measurement
+	public static final int EVENT_SPRAY = 1;
+	public static final int EVENT_COIN = 2;
+	public static final int EVENT_WEB_LOCKED = 4;
+	public static final int EVENT_DEATH = 8;
+
+	private static final String HEADER = "tick,tick_us,webs,gas,sprays,coins,drags,score,lives,events";
+	// Enough samples for several seconds, in case writing falls behind for a moment
+	private static final int RING_CAPACITY = 1024;
+	private static final long MAX_FILE_BYTES = 4 * 1024 * 1024;
+	private static final int MAX_FILES = 4;
+	// The end of the name of a session's first file
+	private static final String FIRST_FILE_SUFFIX = "-0.csv";
+	// Number of samples between the histograms written to the file
+	private static final int HISTOGRAM_INTERVAL = GameClock.TICKS_PER_SECOND * 60;
+	private static final int HISTOGRAM_BUCKETS = 32;
+	private static final long IDLE_SLEEP_MILLIS = 50;
+
+	private MetricsRing ring = new MetricsRing(RING_CAPACITY, FIELDS);
+	private File directory;
+	private Thread thread;
+	private volatile boolean isClosed = false;
+
+	// Only used by the background thread
+	private long[] sample = new long[FIELDS];
+	// Number of act cycles taking 2^i to 2^(i+1) microseconds, over the whole session
+	private long[] tickHistogram = new long[HISTOGRAM_BUCKETS];
+	private long sampleCount = 0;
+	private String sessionName;
+	private BufferedWriter writer;
+	private int fileIndex = 0;
+	private long fileBytes = 0;
+	private StringBuilder line = new StringBuilder();
+
+	/**
+	 * Create a new recorder writing to a folder. Nothing is recorded until it is started.
+	 *
+	 * @param directory the folder to write the files into, which is created if needed
+	 */
+	public MetricsRecorder(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Start the background thread that writes samples.
+	 */
+	public void start() {
+		thread = new Thread(this, "metrics-writer");
+		// Never keep the game running just to finish writing
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Record a sample. This never waits, and drops the sample if the background thread has fallen far behind.
+	 *
+	 * @param sample the measurements, in the positions given by this class's constants
+	 * @return true if the sample was recorded, false if it was dropped
+	 */
+	public boolean record(long[] sample) {
+		if (isClosed) {
+			return false;
+		}
+		return ring.offer(sample);
+	}
+
+	/**
+	 * Stop recording. The background thread writes the samples already recorded and a final histogram, then closes
+	 * the file.
+	 */
+	public void close() {
+		isClosed = true;
+	}
+
+	/**
+	 * Write samples as they are recorded, until closed.
+	 */
+	public void run() {
+		try {
+			// Claim the session's first file, so no other session can be named the same
+			String name = SessionFiles.create(directory, "session-", FIRST_FILE_SUFFIX).getName();
+			sessionName = name.substring(0, name.length() - FIRST_FILE_SUFFIX.length());
+			openFile();
+			while (true) {
+				// Read the flag before draining, so no sample recorded before closing is missed
+				boolean wasClosed = isClosed;
+				if (!drain()) {
+					if (wasClosed) {
+						break;
+					}
+					Thread.sleep(IDLE_SLEEP_MILLIS);
+				}
+			}
+			writeHistogram();
+			writer.close();
+		} catch (IOException e) {
+			System.err.println("Stopped recording metrics: " + e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Write every sample waiting in the ring.
+	 *
+	 * @return true if there was at least one sample, false if there were none
+	 */
+	private boolean drain() throws IOException {
+		boolean wasAny = false;
+		while (ring.poll(sample)) {
+			wasAny = true;
+			writeSample();
+			sampleCount++;
+			if (sampleCount % HISTOGRAM_INTERVAL == 0) {
+				writeHistogram();
+			}
+		}
+		if (wasAny) {
+			writer.flush();
+		}
+		return wasAny;
+	}
+
+	/**
+	 * Add the current sample to the histogram and write it as a line.
+	 */
+	private void writeSample() throws IOException {
+		long micros = sample[TICK_NANOS] / 1000;
+		int bucket = micros <= 0 ? 0 : Math.min(63 - Long.numberOfLeadingZeros(micros), HISTOGRAM_BUCKETS - 1);
+		tickHistogram[bucket]++;
+		line.setLength(0);
+		line.append(sample[TICK]).append(',').append(micros);
+		for (int i = WEBS; i < FIELDS; i++) {
+			line.append(',').append(sample[i]);
+		}
+		writeLine(line);
+	}
+
+	/**
+	 * Write the histogram of act cycle times so far as a comment line.
+	 */
+	private void writeHistogram() throws IOException {
+		line.setLength(0);
+		line.append("# samples=").append(sampleCount).append(" dropped=").append(ring.getDroppedCount());
+		line.append(" tick_us_log2=").append(Arrays.toString(tickHistogram));
+		writeLine(line);
+	}
+
+	/**
+	 * Write a line to the current file, moving on to a new file first if it is full.
+	 */
+	private void writeLine(CharSequence text) throws IOException {
+		if (fileBytes >= MAX_FILE_BYTES) {
+			writer.close();
+			// Only keep the newest files of this session
+			new File(directory, getFileName(fileIndex - MAX_FILES + 1)).delete();
+			fileIndex++;
+			openFile();
+		}
+		writer.append(text).append('\n');
+		fileBytes += text.length() + 1;
+	}
+
+	/**
+	 * Open the file for the current file index and write the column names to it.
+	 */
+	private void openFile() throws IOException {
+		writer = new BufferedWriter(new FileWriter(new File(directory, getFileName(fileIndex))));
+		fileBytes = 0;
+		writer.write(HEADER);
+		writer.newLine();
+	}
+
+	/**
+	 * Return the name of a numbered file of this session.
+	 */
+	private String getFileName(int index) {
+		return sessionName + "-" + index + ".csv";
+	}
+}
@@ -0,0 +1,76 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed-size queue of samples, each a few longs, passed from one thread that adds them to one thread that takes them
+ * out, without either ever waiting on a lock.
+ *
+ * Only one thread may offer and only one thread may poll. When the queue is full, new samples are dropped and counted
+ * rather than making the adding thread wait.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class MetricsRing {
+	private int fields;
+	private int capacity;
+	private long[] slots;
+	// Number of samples ever added, written only by the adding thread
+	private AtomicLong head = new AtomicLong();
+	// Number of samples ever taken out, written only by the taking thread
+	private AtomicLong tail = new AtomicLong();
+	private AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * Create a new empty queue.
+	 *
+	 * @param capacity the greatest number of samples to hold at once
+	 * @param fields the number of longs in each sample
+	 */
+	public MetricsRing(int capacity, int fields) {
+		this.capacity = capacity;
+		this.fields = fields;
+		slots = new long[capacity * fields];
+	}
+
+	/**
+	 * Add a copy of a sample, unless the queue is full. Only the adding thread may call this.
+	 *
+	 * @param sample the sample to add, of at least as many longs as each sample holds
+	 * @return true if the sample was added, false if it was dropped
+	 */
+	public boolean offer(long[] sample) {
+		long h = head.get();
+		if (h - tail.get() >= capacity) {
+			dropped.incrementAndGet();
+			return false;
+		}
+		System.arraycopy(sample, 0, slots, (int) (h % capacity) * fields, fields);
+		// Publish the sample only once it has been written
+		head.lazySet(h + 1);
+		return true;
+	}
+
+	/**
+	 * Take out the oldest sample, if there is one. Only the taking thread may call this.
+	 *
+	 * @param sample the array to copy the sample into, of at least as many longs as each sample holds
+	 * @return true if a sample was taken out, false if the queue was empty
+	 */
+	public boolean poll(long[] sample) {
+		long t = tail.get();
+		if (t == head.get()) {
+			return false;
+		}
+		System.arraycopy(slots, (int) (t % capacity) * fields, sample, 0, fields);
+		// Free the slot only once it has been read
+		tail.lazySet(t + 1);
+		return true;
+	}
+
+	/**
+	 * Return the number of samples dropped so far because the queue was full.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+}
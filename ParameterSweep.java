@@ -0,0 +1,308 @@
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays many games with a SpiderBot without a display, for every combination of a grid of settings, spread over all
+ * processors. For each combination it reports how long the bot survived, how many coins it collected and how many act
+ * cycles per second were simulated, so that settings can be tuned on numbers rather than by feel.
+ *
+ * Run it from the benchmarks folder once they are built, giving the values to try for each setting:
+ *
+ *     java -cp target/benchmarks.jar ParameterSweep games=500 mode=EASY,HARD sprayInterval=6000,8000,10000 maxWebCount=2,3,4
+ *
+ * Settings that aren't given keep their usual values. Other options are games (number of games per combination),
+ * maxSeconds (game time after which a game is stopped), threads (number of games played at once) and csv (a file to
+ * write the result of every game to). Every combination is played with the same seeds, 1 up to the number of games.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ParameterSweep {
+	private static final String[] SETTING_NAMES = { "sprayInterval", "coinInterval", "gasInterval", "webMinLifespan", "webMaxLifespan",
+		"maxWebCount", "glassCount", "glassSpeed", "glassUpSpeed", "glassDownSpeed" };
+
+	private List<GameMode> modes = new ArrayList<GameMode>();
+	private List<GameSettings> settings = new ArrayList<GameSettings>();
+	// Text naming the swept settings of each entry in settings
+	private List<String> labels = new ArrayList<String>();
+	private int games = 200;
+	private int maxTicks = 300 * GameClock.TICKS_PER_SECOND;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private String csvFile = null;
+
+	// Results of every game, with the games of each combination together
+	private int[] ticks;
+	private int[] scores;
+	private int[] lives;
+	private int[] websDrawn;
+	private double[] ticksPerSecond;
+	private AtomicInteger finished = new AtomicInteger();
+
+	/**
+	 * Run a sweep from the command line.
+	 *
+	 * @param args the options and values of settings to try, each as name=value or name=value,value,...
+	 */
+	public static void main(String[] args) throws IOException {
+		ParameterSweep sweep = new ParameterSweep();
+		try {
+			sweep.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: ParameterSweep [games=N] [maxSeconds=N] [threads=N] [csv=FILE] [mode=EASY,HARD] [setting=value,...]");
+			System.err.println("Settings: " + String.join(", ", SETTING_NAMES));
+			System.exit(1);
+		}
+		sweep.run();
+		sweep.report();
+		if (sweep.csvFile != null) {
+			sweep.writeCsv();
+		}
+	}
+
+	/**
+	 * Read the options and build the grid of settings from the command line.
+	 */
+	private void parse(String[] args) {
+		Map<String, String[]> values = new LinkedHashMap<String, String[]>();
+		for (String arg : args) {
+			int equals = arg.indexOf('=');
+			if (equals < 0) {
+				throw new IllegalArgumentException("Expected name=value but got " + arg);
+			}
+			values.put(arg.substring(0, equals), arg.substring(equals + 1).split(","));
+		}
+		String[] modeNames = values.containsKey("mode") ? values.remove("mode") : new String[] { "EASY", "HARD" };
+		for (String modeName : modeNames) {
+			modes.add(GameMode.valueOf(modeName.toUpperCase()));
+		}
+		if (values.containsKey("games")) {
+			games = Integer.parseInt(values.remove("games")[0]);
+		}
+		if (values.containsKey("maxSeconds")) {
+			maxTicks = Integer.parseInt(values.remove("maxSeconds")[0]) * GameClock.TICKS_PER_SECOND;
+		}
+		if (values.containsKey("threads")) {
+			threads = Integer.parseInt(values.remove("threads")[0]);
+		}
+		if (values.containsKey("csv")) {
+			csvFile = values.remove("csv")[0];
+		}
+
+		// Every combination of the values of the settings left
+		settings.add(GameSettings.DEFAULT);
+		labels.add("");
+		for (Map.Entry<String, String[]> entry : values.entrySet()) {
+			List<GameSettings> grown = new ArrayList<GameSettings>();
+			List<String> grownLabels = new ArrayList<String>();
+			for (int i = 0; i < settings.size(); i++) {
+				for (String value : entry.getValue()) {
+					grown.add(withSetting(settings.get(i), entry.getKey(), Integer.parseInt(value)));
+					grownLabels.add(labels.get(i) + entry.getKey() + "=" + value + " ");
+				}
+			}
+			settings = grown;
+			labels = grownLabels;
+		}
+	}
+
+	/**
+	 * Return a copy of some settings with one of them changed by name.
+	 */
+	private static GameSettings withSetting(GameSettings settings, String name, int value) {
+		switch (name) {
+			case "sprayInterval":
+				return settings.withSprayInterval(value);
+			case "coinInterval":
+				return settings.withCoinInterval(value);
+			case "gasInterval":
+				return settings.withGasInterval(value);
+			case "webMinLifespan":
+				return settings.withWebMinLifespan(value);
+			case "webMaxLifespan":
+				return settings.withWebMaxLifespan(value);
+			case "maxWebCount":
+				return settings.withMaxWebCount(value);
+			case "glassCount":
+				return settings.withGlassCount(value);
+			case "glassSpeed":
+				return settings.withGlassSpeed(value);
+			case "glassUpSpeed":
+				return settings.withGlassUpSpeed(value);
+			case "glassDownSpeed":
+				return settings.withGlassDownSpeed(value);
+			default:
+				throw new IllegalArgumentException("Unknown setting " + name);
+		}
+	}
+
+	/**
+	 * Play every game of the sweep, as many at once as there are threads.
+	 */
+	private void run() {
+		int total = modes.size() * settings.size() * games;
+		ticks = new int[total];
+		scores = new int[total];
+		lives = new int[total];
+		websDrawn = new int[total];
+		ticksPerSecond = new double[total];
+		System.err.println("Playing " + total + " games of up to " + maxTicks / GameClock.TICKS_PER_SECOND + " seconds on " + threads + " threads");
+
+		long start = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			pool.invoke(new Games(0, total));
+		} finally {
+			pool.shutdown();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		long allTicks = 0;
+		for (int gameTicks : ticks) {
+			allTicks += gameTicks;
+		}
+		System.out.printf("%d games, %d act cycles in %.1f s: %.0f games/s, %.0f act cycles/s over all threads%n", total, allTicks, seconds,
+			total / seconds, allTicks / seconds);
+	}
+
+	/**
+	 * A range of games of the sweep, split in half until small enough for one thread to play, so that idle threads can
+	 * take halves that other threads haven't started on yet.
+	 */
+	private class Games extends RecursiveAction {
+		// Tasks are never serialized, but RecursiveAction is Serializable
+		private static final long serialVersionUID = 1L;
+		// Number of games played by one thread without splitting further
+		private static final int BATCH = 4;
+
+		private int from;
+		private int to;
+
+		Games(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		protected void compute() {
+			if (to - from > BATCH) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new Games(from, middle), new Games(middle, to));
+				return;
+			}
+			// Each game only writes its own place in the results, so nothing is shared between games while playing
+			for (int game = from; game < to; game++) {
+				play(game);
+				int count = finished.incrementAndGet();
+				if (count % Math.max(1, ticks.length / 20) == 0) {
+					System.err.println(count + "/" + ticks.length + " games played");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Play one game of the sweep and keep its results.
+	 *
+	 * @param game the index of the game, which decides its mode, settings and seed
+	 */
+	private void play(int game) {
+		int combination = game / games;
+		GameMode mode = modes.get(combination / settings.size());
+		GameSettings gameSettings = settings.get(combination % settings.size());
+		long seed = game % games + 1;
+		HeadlessSimulation simulation = new HeadlessSimulation(mode, seed, gameSettings);
+		SpiderBot bot = new SpiderBot(simulation);
+		long start = System.nanoTime();
+		int count = bot.play(maxTicks);
+		long nanos = System.nanoTime() - start;
+		GameWorld world = simulation.getWorld();
+		ticks[game] = count;
+		scores[game] = world.getScore();
+		lives[game] = world.getSpider().getLives();
+		websDrawn[game] = bot.getWebsDrawn();
+		ticksPerSecond[game] = count * 1e9 / Math.max(1, nanos);
+	}
+
+	/**
+	 * Print the spread of results of each combination of mode and settings.
+	 */
+	private void report() {
+		System.out.printf("%-5s %-40s %9s %9s %9s %9s %9s %6s %6s %6s %9s %9s %9s%n", "mode", "settings", "alive p10", "p50", "p90", "survived",
+			"coins p10", "p50", "p90", "mean", "webs/min", "tps p10", "p50");
+		for (int combination = 0; combination < modes.size() * settings.size(); combination++) {
+			int from = combination * games;
+			int to = from + games;
+			double[] survival = new double[games];
+			double[] coins = new double[games];
+			int survivedCount = 0;
+			long comboTicks = 0;
+			long comboWebs = 0;
+			for (int game = from; game < to; game++) {
+				comboTicks += ticks[game];
+				comboWebs += websDrawn[game];
+				survival[game - from] = (double) ticks[game] / GameClock.TICKS_PER_SECOND;
+				coins[game - from] = scores[game];
+				if (lives[game] > 0) {
+					survivedCount++;
+				}
+			}
+			double[] speeds = Arrays.copyOfRange(ticksPerSecond, from, to);
+			Arrays.sort(survival);
+			Arrays.sort(coins);
+			Arrays.sort(speeds);
+			String label = labels.get(combination % settings.size()).trim();
+			double websPerMinute = comboWebs * 60.0 * GameClock.TICKS_PER_SECOND / Math.max(1, comboTicks);
+			System.out.printf("%-5s %-40s %8.1fs %8.1fs %8.1fs %8.1f%% %9.0f %6.0f %6.0f %6.1f %9.1f %9.0f %9.0f%n",
+				modes.get(combination / settings.size()), label.isEmpty() ? "(usual settings)" : label, percentile(survival, 10),
+				percentile(survival, 50), percentile(survival, 90), 100.0 * survivedCount / games, percentile(coins, 10), percentile(coins, 50),
+				percentile(coins, 90), mean(coins), websPerMinute, percentile(speeds, 10), percentile(speeds, 50));
+		}
+		System.out.println("alive: seconds of game time until game over; survived: games still going after "
+			+ maxTicks / GameClock.TICKS_PER_SECOND + " s; webs/min: webs the bot had to draw per minute of game time;");
+		System.out.println("tps: act cycles simulated per second by one thread");
+	}
+
+	/**
+	 * Write the results of every game to the CSV file, one line each.
+	 */
+	private void writeCsv() throws IOException {
+		try (PrintWriter out = new PrintWriter(new FileWriter(csvFile))) {
+			out.println("mode,seed," + String.join(",", SETTING_NAMES) + ",ticks,score,lives,webs,tps");
+			for (int game = 0; game < ticks.length; game++) {
+				int combination = game / games;
+				GameSettings s = settings.get(combination % settings.size());
+				out.printf("%s,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.0f%n", modes.get(combination / settings.size()), game % games + 1,
+					s.getSprayInterval(), s.getCoinInterval(), s.getGasInterval(), s.getWebMinLifespan(), s.getWebMaxLifespan(),
+					s.getMaxWebCount(), s.getGlassCount(), s.getGlassSpeed(), s.getGlassUpSpeed(), s.getGlassDownSpeed(), ticks[game],
+					scores[game], lives[game], websDrawn[game], ticksPerSecond[game]);
+			}
+		}
+		System.err.println("Wrote every game to " + csvFile);
+	}
+
+	/**
+	 * Return the value below which a percentage of sorted values fall.
+	 */
+	private static double percentile(double[] sorted, int percent) {
+		return sorted[(sorted.length - 1) * percent / 100];
+	}
+
+	/**
+	 * Return the mean of some values.
+	 */
+	private static double mean(double[] values) {
+		double sum = 0;
+		for (double value : values) {
+			sum += value;
+		}
+		return sum / values.length;
+	}
+}
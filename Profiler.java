@@ -0,0 +1,230 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures where the time of each act cycle goes: how long the work of each class of actor and each of the game's other
+ * systems takes in an act cycle, how many times each ran, and how much memory the cycle allocated. Something that runs
+ * more than once in an act cycle, such as a class updated by two systems, is timed as the total of its runs. Alongside
+ * the timings it keeps how many of each class of actor there were, since the systems run over all of them at once.
+ *
+ * A game only has a profiler while profiling is turned on, so code that finds none skips measuring altogether.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class Profiler {
+	// Number of the most recent timings kept for each name
+	public static final int WINDOW = 600;
+	private static final int MAX_NAMES = 16;
+
+	private String[] names = new String[MAX_NAMES];
+	private int nameCount = 0;
+	// The time of each name in the most recent act cycles that it ran in, in nanoseconds, as a ring
+	private long[][] samples = new long[MAX_NAMES][WINDOW];
+	// Total number of act cycles timed for each name
+	private long[] sampleCounts = new long[MAX_NAMES];
+	private int[] actCounts = new int[MAX_NAMES];
+	private int[] lastActCounts = new int[MAX_NAMES];
+	// Number of each class of actor in the world, as of the last act cycle
+	private String[] countedNames = new String[MAX_NAMES];
+	private int[] liveCounts = new int[MAX_NAMES];
+	private int countedNameCount = 0;
+
+	private com.sun.management.ThreadMXBean threads;
+	private long tickStart = 0;
+	private long tickActNanos = 0;
+	private long tickAllocationStart = 0;
+	private long lastTickNanos = 0;
+	private long lastActNanos = 0;
+	private long lastAllocatedBytes = -1;
+
+	/**
+	 * Create a new profiler with nothing measured yet.
+	 */
+	public Profiler() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		// Allocation counters are only on HotSpot-style virtual machines
+		if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+			threads = (com.sun.management.ThreadMXBean) bean;
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
+	/**
+	 * Start measuring a new act cycle, finishing the measurements of the one before.
+	 */
+	public void startTick() {
+		long now = System.nanoTime();
+		long allocated = readAllocatedBytes();
+		if (tickStart != 0) {
+			lastTickNanos = now - tickStart;
+			lastActNanos = tickActNanos;
+			lastAllocatedBytes = allocated < 0 ? -1 : allocated - tickAllocationStart;
+			System.arraycopy(actCounts, 0, lastActCounts, 0, nameCount);
+		}
+		Arrays.fill(actCounts, 0);
+		tickStart = now;
+		tickActNanos = 0;
+		tickAllocationStart = allocated;
+	}
+
+	/**
+	 * Return the number of bytes allocated by the current thread so far, or -1 if it can't be known.
+	 */
+	private long readAllocatedBytes() {
+		if (threads == null) {
+			return -1;
+		}
+		return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Record one act() of an object.
+	 *
+	 * @param type the class of the object that acted
+	 * @param start the value of System.nanoTime() when the object started acting
+	 */
+	public void record(Class<?> type, long start) {
+		record(type.getName(), start);
+	}
+
+	/**
+	 * Record one run of something that has been timed, such as one of the game's systems.
+	 *
+	 * @param name the name of what ran
+	 * @param start the value of System.nanoTime() when it started running
+	 */
+	public void record(String name, long start) {
+		long nanos = System.nanoTime() - start;
+		int i = indexOf(name);
+		if (i < 0) {
+			return;
+		}
+		if (actCounts[i] > 0) {
+			// Already ran in this act cycle, so add to its time
+			samples[i][(int) ((sampleCounts[i] - 1) % WINDOW)] += nanos;
+		} else {
+			samples[i][(int) (sampleCounts[i] % WINDOW)] = nanos;
+			sampleCounts[i]++;
+		}
+		actCounts[i]++;
+		tickActNanos += nanos;
+	}
+
+	/**
+	 * Record how many objects of a class are in the world in this act cycle.
+	 *
+	 * @param type the class of the objects
+	 * @param count the number of them
+	 */
+	public void count(Class<?> type, int count) {
+		String name = type.getName();
+		for (int i = 0; i < countedNameCount; i++) {
+			if (countedNames[i].equals(name)) {
+				liveCounts[i] = count;
+				return;
+			}
+		}
+		if (countedNameCount < MAX_NAMES) {
+			countedNames[countedNameCount] = name;
+			liveCounts[countedNameCount++] = count;
+		}
+	}
+
+	/**
+	 * Return the position of a name in this profiler's tables, adding it the first time it is seen.
+	 *
+	 * @return the position, or -1 if there is no room left for another name
+	 */
+	private int indexOf(String name) {
+		for (int i = 0; i < nameCount; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		if (nameCount == MAX_NAMES) {
+			return -1;
+		}
+		names[nameCount] = name;
+		return nameCount++;
+	}
+
+	/**
+	 * Return the number of names measured so far.
+	 */
+	public int getNameCount() {
+		return nameCount;
+	}
+
+	/**
+	 * Return a name measured by this profiler, in the order they were first seen.
+	 */
+	public String getName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Return the number of times something ran in the last complete act cycle.
+	 */
+	public int getActCount(int index) {
+		return lastActCounts[index];
+	}
+
+	/**
+	 * Return the number of classes counted so far.
+	 */
+	public int getCountedClassCount() {
+		return countedNameCount;
+	}
+
+	/**
+	 * Return the name of a class counted by this profiler, in the order they were first counted.
+	 */
+	public String getCountedClassName(int index) {
+		return countedNames[index];
+	}
+
+	/**
+	 * Return the number of objects of a counted class that were last in the world.
+	 */
+	public int getLiveCount(int index) {
+		return liveCounts[index];
+	}
+
+	/**
+	 * Return the time of a name in each recent act cycle that it ran in, in nanoseconds, sorted from fastest to
+	 * slowest.
+	 *
+	 * @param index the position of the name
+	 * @param sorted an array of at least WINDOW elements to sort the timings into
+	 * @return the number of timings put into the array
+	 */
+	public int getSortedSamples(int index, long[] sorted) {
+		int count = (int) Math.min(sampleCounts[index], WINDOW);
+		System.arraycopy(samples[index], 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		return count;
+	}
+
+	/**
+	 * Return the wall-clock time of the last complete act cycle, from the start of one to the start of the next, which
+	 * includes Greenfoot painting the world and waiting for the next cycle.
+	 */
+	public long getTickNanos() {
+		return lastTickNanos;
+	}
+
+	/**
+	 * Return the total time that measured objects spent acting in the last complete act cycle.
+	 */
+	public long getActNanos() {
+		return lastActNanos;
+	}
+
+	/**
+	 * Return the number of bytes allocated during the last complete act cycle, or -1 if it can't be known.
+	 */
+	public long getAllocatedBytes() {
+		return lastAllocatedBytes;
+	}
+}
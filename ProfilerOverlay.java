@@ -0,0 +1,73 @@
+import greenfoot.*;
+
+/**
+ * A panel over the game showing what its profiler has measured, refreshed twice a second: the time each class of actor
+ * and each other system takes per act cycle, then how many of each class of actor are in the world. Gas is timed under
+ * GasCloud and counted in puffs.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ProfilerOverlay extends Actor {
+	private static final int REFRESH_INTERVAL = GameClock.TICKS_PER_SECOND / 2;
+	private static final int FONT_SIZE = 14;
+	private static final Color TEXT_COLOR = Color.WHITE;
+	private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 176);
+
+	private Profiler profiler;
+	private long[] sorted = new long[Profiler.WINDOW];
+	private int ticksUntilRefresh = 0;
+
+	/**
+	 * Create a new overlay.
+	 *
+	 * @param profiler the profiler whose measurements to show
+	 */
+	public ProfilerOverlay(Profiler profiler) {
+		this.profiler = profiler;
+		setImage((GreenfootImage) null);
+	}
+
+	/**
+	 * Refresh this overlay's text every so often.
+	 */
+	public void act() {
+		if (ticksUntilRefresh-- > 0) {
+			return;
+		}
+		ticksUntilRefresh = REFRESH_INTERVAL;
+		if (((GameWorld) getWorld()).isHeadless()) {
+			return;
+		}
+		GreenfootImage image = new GreenfootImage(getText(), FONT_SIZE, TEXT_COLOR, BACKGROUND_COLOR);
+		setImage(image);
+		// Keep the top left corner in place as the panel changes size
+		setLocation(8 + image.getWidth() / 2, 64 + image.getHeight() / 2);
+	}
+
+	/**
+	 * Return the measurements as lines of text, with the time per act cycle of each class and system in microseconds
+	 * and the number of each class of actor.
+	 */
+	private String getText() {
+		StringBuilder text = new StringBuilder();
+		text.append("    p50     p99     max   runs  time per tick in us\n");
+		for (int i = 0; i < profiler.getNameCount(); i++) {
+			int count = profiler.getSortedSamples(i, sorted);
+			if (count == 0) {
+				continue;
+			}
+			text.append(String.format("%7.1f %7.1f %7.1f %6d  %s\n", sorted[count / 2] / 1000.0, sorted[count * 99 / 100] / 1000.0,
+				sorted[count - 1] / 1000.0, profiler.getActCount(i), profiler.getName(i)));
+		}
+		text.append("  count  in the world\n");
+		for (int i = 0; i < profiler.getCountedClassCount(); i++) {
+			text.append(String.format("%7d  %s\n", profiler.getLiveCount(i), profiler.getCountedClassName(i)));
+		}
+		text.append(String.format("tick %.2f ms, acting %.2f ms, painting and waiting %.2f ms\n", profiler.getTickNanos() / 1e6,
+			profiler.getActNanos() / 1e6, (profiler.getTickNanos() - profiler.getActNanos()) / 1e6));
+		long allocatedBytes = profiler.getAllocatedBytes();
+		text.append(allocatedBytes < 0 ? "allocated n/a" : "allocated " + allocatedBytes + " bytes/tick");
+		return text.toString();
+	}
+}
@@ -0,0 +1,111 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Input that passes on another input while writing it down, so that a game can be replayed exactly by a ReplayInput.
+ *
+ * A recording starts with the game mode, the seed of the game's random numbers and the game's settings, followed by
+ * one byte of flags for each act cycle. The mouse position is only written in act cycles where the mouse was pressed, dragged or released.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class RecordingInput extends Input {
+	// "SSRP", marking the start of a recording
+	public static final int MAGIC = 0x53535250;
+	public static final int VERSION = 7;
+
+	// Flags for each act cycle
+	public static final int LEFT = 1;
+	public static final int RIGHT = 2;
+	public static final int UP = 4;
+	public static final int DOWN = 8;
+	public static final int MOUSE_PRESSED = 16;
+	public static final int MOUSE_DRAGGED = 32;
+	public static final int MOUSE_DRAG_ENDED = 64;
+	public static final int PROFILER_KEY = 128;
+	// Flags after which the mouse position is written
+	public static final int MOUSE_FLAGS = MOUSE_PRESSED | MOUSE_DRAGGED | MOUSE_DRAG_ENDED;
+
+	private Input source;
+	private DataOutputStream out;
+
+	/**
+	 * Start recording another input.
+	 *
+	 * @param source the input to pass on
+	 * @param out the stream to write the recording to
+	 * @param mode the mode of the game being recorded
+	 * @param seed the seed of the game's random numbers
+	 * @param settings the settings of the game being recorded
+	 * @throws IOException if the start of the recording could not be written
+	 */
+	public RecordingInput(Input source, OutputStream out, GameMode mode, long seed, GameSettings settings) throws IOException {
+		this.source = source;
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.out.writeInt(MAGIC);
+		this.out.writeByte(VERSION);
+		this.out.writeByte(mode.ordinal());
+		this.out.writeLong(seed);
+		settings.write(this.out);
+	}
+
+	/**
+	 * Sample the other input for the current act cycle and write it down.
+	 */
+	public void poll() {
+		source.poll();
+		setKeys(source.isLeftDown(), source.isRightDown(), source.isUpDown(), source.isDownDown());
+		setMouse(source.isMousePressed(), source.isMouseDragged(), source.isMouseDragEnded(), source.getMouseX(), source.getMouseY());
+		setProfilerKeyPressed(source.isProfilerKeyPressed());
+		if (out == null) {
+			return;
+		}
+		int flags = (isLeftDown() ? LEFT : 0) | (isRightDown() ? RIGHT : 0) | (isUpDown() ? UP : 0) | (isDownDown() ? DOWN : 0)
+			| (isMousePressed() ? MOUSE_PRESSED : 0) | (isMouseDragged() ? MOUSE_DRAGGED : 0) | (isMouseDragEnded() ? MOUSE_DRAG_ENDED : 0)
+			| (isProfilerKeyPressed() ? PROFILER_KEY : 0);
+		try {
+			out.writeByte(flags);
+			if ((flags & MOUSE_FLAGS) != 0) {
+				out.writeShort(getMouseX());
+				out.writeShort(getMouseY());
+			}
+		} catch (IOException e) {
+			// Keep playing without recording rather than stopping the game
+			System.err.println("Stopped recording input: " + e);
+			out = null;
+		}
+	}
+
+	/**
+	 * Write out everything recorded so far.
+	 */
+	public void flush() {
+		if (out == null) {
+			return;
+		}
+		try {
+			out.flush();
+		} catch (IOException e) {
+			System.err.println("Stopped recording input: " + e);
+			out = null;
+		}
+	}
+
+	/**
+	 * Finish the recording. The other input is still passed on afterwards, but no longer written down.
+	 */
+	public void close() {
+		if (out == null) {
+			return;
+		}
+		try {
+			out.close();
+		} catch (IOException e) {
+			System.err.println("Could not finish recording input: " + e);
+		}
+		out = null;
+	}
+}
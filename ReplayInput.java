@@ -0,0 +1,112 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input that plays back a recording made by a RecordingInput, one act cycle at a time.
+ *
+ * A game created with the mode, seed and settings of the recording and controlled by this input plays out exactly as the
+ * recorded game did. Once the recording runs out, nothing is held or pressed.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class ReplayInput extends Input {
+	private DataInputStream in;
+	private GameMode mode;
+	private long seed;
+	private GameSettings settings;
+	private boolean isFinished = false;
+
+	/**
+	 * Open a recording to play back.
+	 *
+	 * @param in the stream to read the recording from
+	 * @throws IOException if the start of the recording could not be read or is not a recording
+	 */
+	public ReplayInput(InputStream in) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(in));
+		if (this.in.readInt() != RecordingInput.MAGIC) {
+			throw new IOException("Not an input recording");
+		}
+		int version = this.in.readUnsignedByte();
+		if (version != RecordingInput.VERSION) {
+			throw new IOException("Unsupported input recording version " + version);
+		}
+		mode = GameMode.values()[this.in.readUnsignedByte()];
+		seed = this.in.readLong();
+		settings = GameSettings.read(this.in);
+	}
+
+	/**
+	 * Return the mode of the recorded game.
+	 */
+	public GameMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Return the seed of the recorded game's random numbers.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Return the settings of the recorded game.
+	 */
+	public GameSettings getSettings() {
+		return settings;
+	}
+
+	/**
+	 * Return whether or not every recorded act cycle has been played back.
+	 */
+	public boolean isFinished() {
+		return isFinished;
+	}
+
+	/**
+	 * Play back the next recorded act cycle.
+	 */
+	public void poll() {
+		int flags = 0;
+		int x = getMouseX();
+		int y = getMouseY();
+		if (!isFinished) {
+			try {
+				flags = in.readUnsignedByte();
+				if ((flags & RecordingInput.MOUSE_FLAGS) != 0) {
+					x = in.readShort();
+					y = in.readShort();
+				}
+			} catch (EOFException e) {
+				finish();
+				flags = 0;
+			} catch (IOException e) {
+				System.err.println("Stopped replaying input: " + e);
+				finish();
+				flags = 0;
+			}
+		}
+		setKeys((flags & RecordingInput.LEFT) != 0, (flags & RecordingInput.RIGHT) != 0, (flags & RecordingInput.UP) != 0,
+			(flags & RecordingInput.DOWN) != 0);
+		setMouse((flags & RecordingInput.MOUSE_PRESSED) != 0, (flags & RecordingInput.MOUSE_DRAGGED) != 0,
+			(flags & RecordingInput.MOUSE_DRAG_ENDED) != 0, x, y);
+		setProfilerKeyPressed((flags & RecordingInput.PROFILER_KEY) != 0);
+	}
+
+	/**
+	 * Stop playing back and close the recording.
+	 */
+	private void finish() {
+		isFinished = true;
+		try {
+			in.close();
+		} catch (IOException e) {
+			// Nothing more will be read anyway
+		}
+	}
+}
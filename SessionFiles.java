@@ -0,0 +1,65 @@
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Files named after the time that a game session started, such as input recordings and metrics.
+ *
+ * Names include the milliseconds, and a file is only ever created if it doesn't exist yet, so two sessions started at
+ * nearly the same time never write to the same file. Since the names sort by time, only the newest few files of a kind
+ * can be kept.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class SessionFiles {
+	/**
+	 * Create a new, empty file named after the current time.
+	 *
+	 * @param directory the folder to create the file in, which is created if needed
+	 * @param prefix the start of the file's name, before the time
+	 * @param suffix the end of the file's name, after the time
+	 * @return the file that was created
+	 * @throws IOException if the file could not be created
+	 */
+	public static File create(File directory, String prefix, String suffix) throws IOException {
+		directory.mkdirs();
+		String name = prefix + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+		File file = new File(directory, name + suffix);
+		// Another session started in the same millisecond, so number this one
+		for (int i = 2; !file.createNewFile(); i++) {
+			file = new File(directory, name + "-" + i + suffix);
+		}
+		return file;
+	}
+
+	/**
+	 * Delete all but the newest few files created with a prefix and suffix.
+	 *
+	 * @param directory the folder that the files are in
+	 * @param prefix the start of the files' names
+	 * @param suffix the end of the files' names
+	 * @param keepCount the number of files to keep
+	 */
+	public static void deleteOldest(File directory, String prefix, String suffix, int keepCount) {
+		String[] names = directory.list();
+		if (names == null) {
+			return;
+		}
+		// Sort without the suffix, so a numbered file comes after the one created in the same millisecond before it
+		List<String> matching = new ArrayList<String>();
+		for (String name : names) {
+			if (name.startsWith(prefix) && name.endsWith(suffix)) {
+				matching.add(name.substring(0, name.length() - suffix.length()));
+			}
+		}
+		Collections.sort(matching);
+		for (int i = 0; i < matching.size() - keepCount; i++) {
+			new File(directory, matching.get(i) + suffix).delete();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * Input that is controlled by code rather than by a player, for running the game without a display.
+ *
+ * Key states last until they are changed. Mouse events are queued and seen by the game in the next act cycle only,
+ * just like Greenfoot's mouse events.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class SimulatedInput extends Input {
+	private boolean isLeftHeld = false;
+	private boolean isRightHeld = false;
+	private boolean isUpHeld = false;
+	private boolean isDownHeld = false;
+
+	private boolean isPressQueued = false;
+	private boolean isDragQueued = false;
+	private boolean isReleaseQueued = false;
+	private boolean isProfilerKeyQueued = false;
+	private boolean isDragging = false;
+	private int nextMouseX;
+	private int nextMouseY;
+
+	/**
+	 * Set which movement keys are held down.
+	 */
+	public void holdKeys(boolean isLeftHeld, boolean isRightHeld, boolean isUpHeld, boolean isDownHeld) {
+		this.isLeftHeld = isLeftHeld;
+		this.isRightHeld = isRightHeld;
+		this.isUpHeld = isUpHeld;
+		this.isDownHeld = isDownHeld;
+	}
+
+	/**
+	 * Press the mouse at a position in the next act cycle.
+	 */
+	public void pressMouse(int x, int y) {
+		isPressQueued = true;
+		isDragging = false;
+		nextMouseX = x;
+		nextMouseY = y;
+	}
+
+	/**
+	 * Drag the pressed mouse to a position in the next act cycle.
+	 */
+	public void dragMouse(int x, int y) {
+		isDragQueued = true;
+		isDragging = true;
+		nextMouseX = x;
+		nextMouseY = y;
+	}
+
+	/**
+	 * Release the mouse in the next act cycle, which ends a drag if the mouse was dragged since being pressed.
+	 */
+	public void releaseMouse() {
+		isReleaseQueued = isDragging;
+		isDragging = false;
+	}
+
+	/**
+	 * Press the key that turns the profiler on and off in the next act cycle.
+	 */
+	public void pressProfilerKey() {
+		isProfilerKeyQueued = true;
+	}
+
+	/**
+	 * Hand the queued state to the game for the current act cycle.
+	 */
+	public void poll() {
+		setKeys(isLeftHeld, isRightHeld, isUpHeld, isDownHeld);
+		setProfilerKeyPressed(isProfilerKeyQueued);
+		isProfilerKeyQueued = false;
+		setMouse(isPressQueued, isDragQueued, isReleaseQueued, nextMouseX, nextMouseY);
+		isPressQueued = false;
+		isDragQueued = false;
+		isReleaseQueued = false;
+	}
+}
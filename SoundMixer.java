@@ -0,0 +1,119 @@
+import greenfoot.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays the game's short sound effects on a thread of its own, so that starting a sound never holds up an act cycle.
+ *
+ * Each effect has a few voices: separate copies of its sound, all loaded before they are needed. Each time an effect
+ * is played the next voice takes a turn, so an effect played again soon after plays over itself rather than cutting
+ * itself off. When every voice is busy, the voice that started longest ago is restarted. The game only puts a request
+ * in a queue and wakes the thread, and the sound starts as soon as the thread has run.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class SoundMixer implements Runnable {
+	// The effects that can be played
+	public static final int COIN = 0;
+	public static final int DEATH = 1;
+
+	private static final String[] FILES = { "sounds/new-super-mario-bros-wii-coin.mp3", "sounds/new-super-mario-bros-u-death.mp3" };
+	private static final int VOICES_PER_EFFECT = 4;
+	// Far more effects than can ever be asked for between two turns of the thread
+	private static final int QUEUE_CAPACITY = 64;
+	// Longest the thread sleeps between checks, in case a wake up is missed
+	private static final long IDLE_PARK_NANOS = 100 * 1000 * 1000;
+
+	private static SoundMixer instance = null;
+
+	// Effects waiting to be played, passed from the game's thread to this mixer's thread
+	private int[] queue = new int[QUEUE_CAPACITY];
+	// Number of effects ever queued, written only by the game's thread
+	private AtomicLong head = new AtomicLong();
+	// Number of effects ever taken out, written only by this mixer's thread
+	private AtomicLong tail = new AtomicLong();
+	private AtomicLong playedCount = new AtomicLong();
+	private Thread thread;
+
+	// Only used by this mixer's thread
+	private GreenfootSound[][] voices = new GreenfootSound[FILES.length][VOICES_PER_EFFECT];
+	private int[] nextVoices = new int[FILES.length];
+
+	/**
+	 * Return the mixer, starting it the first time. Its voices are loaded by its own thread once started.
+	 */
+	public static synchronized SoundMixer getInstance() {
+		if (instance == null) {
+			instance = new SoundMixer();
+			instance.thread = new Thread(instance, "sound-mixer");
+			// Never keep Greenfoot from closing
+			instance.thread.setDaemon(true);
+			instance.thread.start();
+		}
+		return instance;
+	}
+
+	private SoundMixer() {
+	}
+
+	/**
+	 * Play an effect as soon as possible. This never waits, and only the game's thread may call it.
+	 *
+	 * @param effect one of this class's effect constants
+	 * @return true if the effect will be played, false if too many effects were already waiting
+	 */
+	public boolean play(int effect) {
+		long h = head.get();
+		if (h - tail.get() >= QUEUE_CAPACITY) {
+			return false;
+		}
+		queue[(int) (h % QUEUE_CAPACITY)] = effect;
+		// Publish the effect only once it has been written
+		head.lazySet(h + 1);
+		LockSupport.unpark(thread);
+		return true;
+	}
+
+	/**
+	 * Return the number of effects that have been started so far.
+	 */
+	public long getPlayedCount() {
+		return playedCount.get();
+	}
+
+	/**
+	 * Load every voice, then start each effect as it is asked for.
+	 */
+	public void run() {
+		for (int effect = 0; effect < FILES.length; effect++) {
+			for (int i = 0; i < VOICES_PER_EFFECT; i++) {
+				voices[effect][i] = new GreenfootSound(FILES[effect]);
+			}
+		}
+		while (true) {
+			long t = tail.get();
+			if (t == head.get()) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				continue;
+			}
+			int effect = queue[(int) (t % QUEUE_CAPACITY)];
+			// Free the place in the queue only once it has been read
+			tail.lazySet(t + 1);
+			start(effect);
+		}
+	}
+
+	/**
+	 * Start an effect on its next voice, restarting that voice if it is still playing.
+	 */
+	private void start(int effect) {
+		GreenfootSound voice = voices[effect][nextVoices[effect]];
+		nextVoices[effect] = (nextVoices[effect] + 1) % VOICES_PER_EFFECT;
+		if (voice.isPlaying()) {
+			voice.stop();
+		}
+		voice.play();
+		playedCount.incrementAndGet();
+	}
+}
@@ -11,14 +11,14 @@ public class Spider extends AnimatedActor {
 	private static final int HIT_RADIUS = 50;
 	private static final int IDLE_FRAME_DELAY = AnimatedActor.DEFAULT_FRAME_DELAY;
 	private static final int WALK_FRAME_DELAY = 75;
-	private static final GreenfootSound DEATH_SOUND = new GreenfootSound("sounds/new-super-mario-bros-u-death.mp3");
 
 	private static boolean hasLoadedImages = false;
 	private static final GreenfootImage[] imagesIdle = new GreenfootImage[2];
 	private static final GreenfootImage[] imagesWalk = new GreenfootImage[4];
 
 	private boolean isFacingRight = false;
-	private boolean wasFacingRight = false;
+	// Reused every act cycle to hold the coins near this spider
+	private ActorList<Coin> nearbyCoins = new ActorList<Coin>();
 
 	private int lives = 3;
 	private boolean isDying = false;
@@ -27,25 +27,37 @@ public class Spider extends AnimatedActor {
 
 	/**
 	 * Create a new spider.
+	 *
+	 * @param components the components of the game that this spider belongs to
 	 */
-	public Spider() {
+	public Spider(ActorComponents components) {
+		super(components);
 		loadImages();
 		setAnimation(imagesIdle);
+		// This spider advances its own frames between collecting coins and checking for gas, which also holds the
+		// current frame while it falls
+		setAnimating(false);
 	}
 
 	/**
 	 * Load all images that spider actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < imagesIdle.length; i++) {
-			imagesIdle[i] = new GreenfootImage("images/spider-idle-" + i + ".png");
+			imagesIdle[i] = Assets.getImage("images/spider-idle-" + i + ".png");
 		}
 		for (int i = 0; i < imagesWalk.length; i++) {
-			imagesWalk[i] = new GreenfootImage("images/spider-walk-" + i + ".png");
+			imagesWalk[i] = Assets.getImage("images/spider-walk-" + i + ".png");
 		}
+		// Mirror the images for facing right up front, so the first turn doesn't have to, and make the collision masks
+		// of every frame either way
+		FrameCache.getMasks(imagesIdle);
+		FrameCache.getMasks(imagesWalk);
+		FrameCache.getMasks(FrameCache.getMirrored(imagesIdle));
+		FrameCache.getMasks(FrameCache.getMirrored(imagesWalk));
 		hasLoadedImages = true;
 	}
 
@@ -56,24 +68,39 @@ public class Spider extends AnimatedActor {
 		((GameWorld) world).updateHearts(lives);
 	}
 
+	/**
+	 * Return this spider's remaining number of lives.
+	 */
+	public int getLives() {
+		return lives;
+	}
+
+	/**
+	 * Return whether or not this spider is falling after losing a life.
+	 */
+	public boolean isDying() {
+		return isDying;
+	}
+
 	/**
 	 * Move this spider according to the WASD and direction keys that are pressed.
 	 *
 	 * @return whether or not this spider's location was changed
 	 */
 	private boolean updateLocation() {
+		Input input = ((GameWorld) getWorld()).getInput();
 		int dx = 0;
 		int dy = 0;
-		if (Greenfoot.isKeyDown("a") || Greenfoot.isKeyDown("left")) {
+		if (input.isLeftDown()) {
 			dx -= SPEED;
 		}
-		if (Greenfoot.isKeyDown("d") || Greenfoot.isKeyDown("right")) {
+		if (input.isRightDown()) {
 			dx += SPEED;
 		}
-		if (Greenfoot.isKeyDown("w") || Greenfoot.isKeyDown("up")) {
+		if (input.isUpDown()) {
 			dy -= SPEED;
 		}
-		if (Greenfoot.isKeyDown("s") || Greenfoot.isKeyDown("down")) {
+		if (input.isDownDown()) {
 			dy += SPEED;
 		}
 		if (dx != 0 || dy != 0) {
@@ -94,13 +121,13 @@ public class Spider extends AnimatedActor {
 				}
 			}
 		}
-		// Update the direction flag
-		wasFacingRight = isFacingRight;
+		// Update the direction; all images originally face left, so they are mirrored when facing right
 		if (dx > 0) {
 			isFacingRight = true;
 		} else if (dx < 0) {
 			isFacingRight = false;
 		}
+		setMirrored(isFacingRight);
 		return dx != 0 || dy != 0;
 	}
 
@@ -110,14 +137,7 @@ public class Spider extends AnimatedActor {
 	 * @return true if on top of a web, false if not
 	 */
 	private boolean isOnWeb() {
-		int x = getX();
-		int y = getY();
-		for (Web web : getWorld().getObjects(Web.class)) {
-			if (web.isLockedIn() && web.isUnderPoint(x, y)) {
-				return true;
-			}
-		}
-		return false;
+		return ((GameWorld) getWorld()).isOnWeb(getX(), getY());
 	}
 
 	/**
@@ -132,57 +152,49 @@ public class Spider extends AnimatedActor {
 		return x < 0 || x >= world.getWidth() || y < 0 || y >= world.getHeight();
 	}
 
-	/**
-	 * Advance this spider's animation and update its image.
-	 *
-	 * @return true if the animation was advanced, false otherwise
-	 */
-	protected boolean updateAnimation() {
-		boolean wasUpdated = super.updateAnimation();
-		if (!wasUpdated && isFacingRight != wasFacingRight) {
-			// Animation frame is not yet due to be updated, but the direction has changed
-			updateAnimationFrame();
-			wasUpdated = true;
-		}
-		return wasUpdated;
-	}
-
-	/**
-	 * Set this spider's image according to its current animation frame and direction.
-	 */
-	protected void updateAnimationFrame() {
-		GreenfootImage image = getAnimationFrame();
-		// Mirror the image if facing right (all images originally face left)
-		if (isFacingRight) {
-			image = new GreenfootImage(image);
-			image.mirrorHorizontally();
-		}
-		setImage(image);
-	}
-
 	/**
 	 * Collect any coins that this spider is touching.
 	 */
 	private void collectCoins() {
 		GameWorld world = (GameWorld) getWorld();
-		for (Coin coin : getIntersectingObjects(Coin.class)) {
-			world.collectCoin(coin);
+		// Only the coins in the grid cells around this spider could be touching it
+		GreenfootImage image = getImage();
+		int left = getX() - image.getWidth() / 2;
+		int top = getY() - image.getHeight() / 2;
+		world.getRegistry().getCoinGrid().findNear(left, top, left + image.getWidth(), top + image.getHeight(), nearbyCoins);
+		for (int i = 0; i < nearbyCoins.size(); i++) {
+			Coin coin = nearbyCoins.get(i);
+			if (intersects(coin)) {
+				world.collectCoin(coin);
+			}
 		}
+		nearbyCoins.clear();
 	}
 
 	/**
-	 * Update this spider.
+	 * Check if the centre of any puff of gas is within this spider's hit radius.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
-		}
+	private boolean isTouchingGas() {
+		return ((GameWorld) getWorld()).getGasCloud().isInRange(getX(), getY(), HIT_RADIUS);
+	}
 
+	/**
+	 * Move this spider according to the input and check what it has run into, or continue its fall if dying.
+	 */
+	public void update() {
 		if (isDying) {
+			// A spider that starts a new life doesn't move or collide until the next act cycle
 			updateDyingAnimation();
 			return;
 		}
+		updateMovement();
+		updateCollisions();
+	}
 
+	/**
+	 * Move this spider according to the input, and use the animation that suits whether or not it moved.
+	 */
+	private void updateMovement() {
 		boolean wasMoved = updateLocation();
 		// Use the appropriate animation: if this spider was just moved, use the walk animation, but if not, use the idle animation
 		if (wasMoved && getAnimation() != imagesWalk) {
@@ -192,26 +204,37 @@ public class Spider extends AnimatedActor {
 			setAnimation(imagesIdle);
 			setFrameDelay(IDLE_FRAME_DELAY);
 		}
+	}
+
+	/**
+	 * Collect the coins this spider is touching, advance its animation, and die if it is off the webs or touching gas.
+	 */
+	private void updateCollisions() {
 		collectCoins();
 		updateAnimation();
 		// Die if not on a web or touching gas
-		if (!isOnWeb() || getObjectsInRange(HIT_RADIUS, Gas.class).size() != 0) {
+		if (!isOnWeb() || isTouchingGas()) {
 			die();
 		}
 	}
 
 	/**
-	 * Remove a life from this spider and start its dying animation.
+	 * Remove a life from this spider and start its dying animation. In a stress test the spider can't die, so nothing
+	 * is cleared away.
 	 */
 	public void die() {
-		lives--;
 		GameWorld world = (GameWorld) getWorld();
+		if (world.getMode() == GameMode.STRESS) {
+			return;
+		}
+		lives--;
 		world.updateHearts(lives);
 		world.fadeAwayAllBad();
+		world.addMetricsEvent(MetricsRecorder.EVENT_DEATH);
 		// Initiate the dying animation
 		isDying = true;
 		velY = -18;
-		DEATH_SOUND.play();
+		world.playEffect(SoundMixer.DEATH);
 	}
 
 	/**
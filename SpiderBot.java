@@ -0,0 +1,254 @@
+import java.util.List;
+
+/**
+ * A player controlled by code, for playing whole games without a display.
+ *
+ * Every so often the bot picks somewhere to go: the place furthest from where the gas and the glass are heading,
+ * preferring places close by and places with coins. It then draws a web covering both the spider and that place, and
+ * walks the spider there. A new web is also drawn whenever every web under the spider has started to fade away. The
+ * bot only looks at the game, so a game played by the bot plays out the same every time for the same seed.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class SpiderBot {
+	// Number of act cycles between choosing where to go, unless gas comes close
+	private static final int DECISION_INTERVAL = 12;
+	private static final int MIN_DECISION_INTERVAL = 3;
+	// Distance from gas at which a decision is made straight away
+	private static final int DANGER_DISTANCE = 90;
+	// Distance from gas and the glass beyond which a place is as safe as it gets
+	private static final int SAFE_DISTANCE = 160;
+	// Act cycles ahead to predict where the gas will be
+	private static final int[] LOOKAHEAD = { 0, 15, 30, 45 };
+	// Spacing of the places considered, and their distance from the edges of the world
+	private static final int GRID_STEP = 50;
+	private static final int GRID_MARGIN = 40;
+	// How much a place is worth for each pixel of walking to it, and for having a coin
+	private static final double TRAVEL_COST = 0.25;
+	private static final int COIN_VALUE = 60;
+	// Distance that the place being walked to must move by to count as somewhere else
+	private static final int RETARGET_DISTANCE = 20;
+	// Room around the spider and where it is going that a web covers
+	private static final int WEB_PADDING = 40;
+	// Act cycles spent dragging out each web, about as long as a quick drag by a person
+	private static final int DRAG_STEPS = 10;
+
+	private HeadlessSimulation simulation;
+	private GameWorld world;
+	private SimulatedInput input;
+	private Glass glass;
+
+	private long ticks = 0;
+	private long nextDecision = 0;
+	private boolean isWebNeeded = false;
+	private int targetX;
+	private int targetY;
+	private int websDrawn = 0;
+	// Act cycles left of drawing the current web: pressing, dragging, then releasing
+	private int drawStep = 0;
+	private int webStartX;
+	private int webStartY;
+	private int webEndX;
+	private int webEndY;
+
+	/**
+	 * Create a new bot to play a simulated game.
+	 *
+	 * @param simulation the game to play, which must not be a replay
+	 */
+	public SpiderBot(HeadlessSimulation simulation) {
+		this.simulation = simulation;
+		world = simulation.getWorld();
+		input = simulation.getInput();
+		List<Glass> glasses = world.getObjects(Glass.class);
+		glass = glasses.isEmpty() ? null : glasses.get(0);
+		Spider spider = world.getSpider();
+		targetX = spider.getX();
+		targetY = spider.getY();
+	}
+
+	/**
+	 * Return the number of webs this bot has started drawing.
+	 */
+	public int getWebsDrawn() {
+		return websDrawn;
+	}
+
+	/**
+	 * Play the game until it is over or a number of act cycles have passed.
+	 *
+	 * @param maxCount the greatest number of act cycles to play
+	 * @return the number of act cycles that were played
+	 */
+	public int play(int maxCount) {
+		int count = 0;
+		while (count < maxCount && !world.isOver()) {
+			act();
+			simulation.step();
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Decide what to do in the next act cycle of the game.
+	 */
+	public void act() {
+		long now = ticks++;
+		Spider spider = world.getSpider();
+		if (spider.isDying()) {
+			input.holdKeys(false, false, false, false);
+			if (drawStep > 0) {
+				// Give up on the web being drawn
+				input.releaseMouse();
+				drawStep = 0;
+			}
+			// Start the next life on the web it begins with
+			targetX = 300;
+			targetY = 200;
+			isWebNeeded = false;
+			nextDecision = now;
+			return;
+		}
+
+		int x = spider.getX();
+		int y = spider.getY();
+		boolean isInDanger = world.getGasCloud().isInRange(x, y, DANGER_DISTANCE);
+		if (now >= nextDecision || (isInDanger && now >= nextDecision - DECISION_INTERVAL + MIN_DECISION_INTERVAL)) {
+			int oldTargetX = targetX;
+			int oldTargetY = targetY;
+			chooseTarget(x, y);
+			nextDecision = now + DECISION_INTERVAL;
+			if (Math.abs(targetX - oldTargetX) > RETARGET_DISTANCE || Math.abs(targetY - oldTargetY) > RETARGET_DISTANCE) {
+				// Somewhere new to go needs a web to get there
+				isWebNeeded = true;
+			}
+		}
+		if (drawStep == 0 && (isWebNeeded || !isOnLastingWeb(x, y))) {
+			startWeb(x, y);
+			isWebNeeded = false;
+		}
+		updateWeb();
+		input.holdKeys(targetX < x - 1, targetX > x + 1, targetY < y - 1, targetY > y + 1);
+	}
+
+	/**
+	 * Pick the best place to go from the spider's position.
+	 */
+	private void chooseTarget(int x, int y) {
+		int oldTargetX = targetX;
+		int oldTargetY = targetY;
+		double bestValue = Double.NEGATIVE_INFINITY;
+		// Staying put and carrying on are always choices, and win ties so the spider doesn't wander
+		bestValue = consider(x, y, x, y, 0, bestValue);
+		bestValue = consider(x, y, oldTargetX, oldTargetY, 0, bestValue);
+		ActorList<Coin> coins = world.getRegistry().getCoins();
+		for (int i = 0; i < coins.size(); i++) {
+			Coin coin = coins.get(i);
+			bestValue = consider(x, y, coin.getX(), coin.getY(), COIN_VALUE, bestValue);
+		}
+		for (int gridX = GRID_MARGIN; gridX < world.getWidth() - GRID_MARGIN; gridX += GRID_STEP) {
+			for (int gridY = GRID_MARGIN; gridY < world.getHeight() - GRID_MARGIN; gridY += GRID_STEP) {
+				bestValue = consider(x, y, gridX, gridY, 0, bestValue);
+			}
+		}
+	}
+
+	/**
+	 * Make a place the target if it is worth more than the best place so far.
+	 *
+	 * @return the value of the best place so far, including this one
+	 */
+	private double consider(int x, int y, int placeX, int placeY, int bonus, double bestValue) {
+		int dx = placeX - x;
+		int dy = placeY - y;
+		double travel = Math.sqrt(dx * dx + dy * dy);
+		// The way there must be safe as well as the place itself
+		double safety = Math.min(getSafety(placeX, placeY), getSafety(x + dx / 2, y + dy / 2));
+		double value = safety - travel * TRAVEL_COST + bonus;
+		if (value > bestValue) {
+			targetX = placeX;
+			targetY = placeY;
+			return value;
+		}
+		return bestValue;
+	}
+
+	/**
+	 * Return how close the gas is predicted to come to a point over the next while, or the glass's shadow is to it,
+	 * up to a distance that counts as safe.
+	 */
+	private double getSafety(int pointX, int pointY) {
+		double closest = SAFE_DISTANCE * SAFE_DISTANCE;
+		if (glass != null) {
+			GlassShadow shadow = glass.getShadow();
+			double dx = shadow.getX() - pointX;
+			double dy = shadow.getY() - pointY;
+			closest = Math.min(closest, dx * dx + dy * dy);
+		}
+		if (world.getMode() == GameMode.STRESS) {
+			// Gas can't hurt the spider in a stress test, and looking ahead at so much of it would cost far more than
+			// the game itself
+			return Math.sqrt(closest);
+		}
+		GasCloud gasCloud = world.getGasCloud();
+		for (int i = 0; i < gasCloud.getCount(); i++) {
+			double puffX = gasCloud.getPuffX(i) - pointX;
+			double puffY = gasCloud.getPuffY(i) - pointY;
+			double velocityX = gasCloud.getPuffVelocityX(i);
+			double velocityY = gasCloud.getPuffVelocityY(i);
+			for (int ahead : LOOKAHEAD) {
+				double dx = puffX + velocityX * ahead;
+				double dy = puffY + velocityY * ahead;
+				closest = Math.min(closest, dx * dx + dy * dy);
+			}
+		}
+		return Math.sqrt(closest);
+	}
+
+	/**
+	 * Check if a point is on a locked web that hasn't started to fade away yet.
+	 */
+	private boolean isOnLastingWeb(int x, int y) {
+		ActorList<Web> webs = world.getRegistry().getWebs();
+		for (int i = 0; i < webs.size(); i++) {
+			Web web = webs.get(i);
+			if (web.isLockedIn() && !web.isFading() && web.isUnderPoint(x, y)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Start drawing a web that covers both the spider and where it is going.
+	 */
+	private void startWeb(int x, int y) {
+		webStartX = Math.min(x, targetX) - WEB_PADDING;
+		webStartY = Math.min(y, targetY) - WEB_PADDING;
+		webEndX = Math.max(x, targetX) + WEB_PADDING;
+		webEndY = Math.max(y, targetY) + WEB_PADDING;
+		drawStep = DRAG_STEPS + 2;
+		websDrawn++;
+	}
+
+	/**
+	 * Carry on drawing the current web, one mouse event per act cycle.
+	 */
+	private void updateWeb() {
+		if (drawStep == 0) {
+			return;
+		}
+		if (drawStep == DRAG_STEPS + 2) {
+			input.pressMouse(webStartX, webStartY);
+		} else if (drawStep == 1) {
+			input.releaseMouse();
+		} else {
+			// Drag a little further towards the far corner each act cycle
+			int dragged = DRAG_STEPS + 2 - drawStep;
+			input.dragMouse(webStartX + (webEndX - webStartX) * dragged / DRAG_STEPS, webStartY + (webEndY - webStartY) * dragged / DRAG_STEPS);
+		}
+		drawStep--;
+	}
+}
@@ -8,10 +8,9 @@ import greenfoot.*;
  */
 public class Spray extends AnimatedActor {
 	private static final int LIFESPAN = 5000;
-	private static final int GAS_INTERVAL = 750;
 
-	private SimpleTimer timer = new SimpleTimer();
-	private SimpleTimer gasTimer = new SimpleTimer();
+	private GameTimer timer;
+	private GameTimer gasTimer;
 	private boolean isMovingIn;
 	private int targetX;
 	private int targetY;
@@ -21,8 +20,13 @@ public class Spray extends AnimatedActor {
 
 	/**
 	 * Create a new spray object.
+	 *
+	 * @param components the components of the game that this spray belongs to
 	 */
-	public Spray() {
+	public Spray(ActorComponents components) {
+		super(components);
+		timer = new GameTimer(getClock());
+		gasTimer = new GameTimer(getClock());
 		loadImages();
 		setAnimation(images);
 	}
@@ -30,30 +34,41 @@ public class Spray extends AnimatedActor {
 	/**
 	 * Load all images that spray actors use.
 	 */
-	private static void loadImages() {
+	public static synchronized void loadImages() {
 		if (hasLoadedImages) {
 			return;
 		}
 		for (int i = 0; i < images.length; i++) {
-			images[i] = new GreenfootImage("images/spray-" + i + ".png");
+			images[i] = Assets.getImage("images/spray-" + i + ".png");
 		}
 		hasLoadedImages = true;
 	}
 
+	/**
+	 * Make this spray new again, to be reused after it was removed from its world. Its position is chosen again when
+	 * it is added back to a world.
+	 */
+	public void reset() {
+		super.reset();
+		timer.mark();
+		gasTimer.mark();
+	}
+
 	/**
 	 * Initialize this spray's position randomly when added to a world.
 	 */
 	protected void addedToWorld(World world) {
+		GameWorld gameWorld = (GameWorld) world;
 		int worldWidth = world.getWidth();
 		int worldHeight = world.getHeight();
-		targetX = Greenfoot.getRandomNumber(worldWidth);
+		targetX = gameWorld.getRandomNumber(worldWidth);
 		if (targetX < 50 || targetX > worldWidth - 50) {
 			// If on the left or right edges of the world, this spray can be placed anywhere on the y-axis
-			targetY = Greenfoot.getRandomNumber(worldHeight);
+			targetY = gameWorld.getRandomNumber(worldHeight);
 		} else {
 			// If anywhere else on the x-axis, this spray can be placed on the top or bottom edges of the world
-			targetY = Greenfoot.getRandomNumber(50);
-			if (Greenfoot.getRandomNumber(2) == 0) {
+			targetY = gameWorld.getRandomNumber(50);
+			if (gameWorld.getRandomNumber(2) == 0) {
 				targetY = worldHeight - targetY;
 			}
 		}
@@ -65,37 +80,43 @@ public class Spray extends AnimatedActor {
 	}
 
 	/**
-	 * Update this spray.
+	 * Set this spray moving into the world, or out of it once it has finished spraying, removing it once it is gone.
+	 * The game world's movement system then moves it.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
-		}
-
+	public void updateMovement() {
 		if (isMovingIn) {
 			// Current objective: move to the target position
 			if (Math.abs(getX() - targetX) < 3 && Math.abs(getY() - targetY) < 3) {
 				isMovingIn = false;
+				setSpeed(0);
 				timer.mark();
 			} else {
-				move(1);
-			}
-		} else {
-			// Wait to spray, then move out of the world, then remove this spray
-			int time = timer.millisElapsed();
-			if (time >= LIFESPAN + 5000) {
-				// This spray has been moved outside of the world; remove it
-				getWorld().removeObject(this);
-			} else if (time >= LIFESPAN) {
-				// This spray has finished spraying; move it outside of the world
-				move(-1);
-			} else if (!isFading() && gasTimer.millisElapsed() >= GAS_INTERVAL) {
-				// Add a new gas every so often while spraying
-				getWorld().addObject(new Gas(this), 0, 0);
-				gasTimer.mark();
+				setSpeed(1);
 			}
+			return;
+		}
+		// Wait to spray, then move out of the world, then remove this spray
+		int time = timer.millisElapsed();
+		if (time >= LIFESPAN + 5000) {
+			// This spray has been moved outside of the world; remove it
+			getWorld().removeObject(this);
+		} else if (time >= LIFESPAN) {
+			// This spray has finished spraying; move it outside of the world
+			setSpeed(-1);
+		}
+	}
+
+	/**
+	 * Spray a new puff of gas every so often while in place.
+	 */
+	public void updateSpraying() {
+		if (isMovingIn || timer.millisElapsed() >= LIFESPAN) {
+			return;
+		}
+		GameWorld world = (GameWorld) getWorld();
+		if (!isFading() && gasTimer.millisElapsed() >= world.getSettings().getGasInterval()) {
+			world.getGasCloud().add(this);
+			gasTimer.mark();
 		}
-		updateAnimation();
-		updateFade();
 	}
 }
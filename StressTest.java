@@ -0,0 +1,245 @@
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plays a game in the STRESS mode with a SpiderBot and no display, step by step with more and more of everything, to
+ * find where the game stops keeping up.
+ *
+ * Each step is a new game whose sprays, coins and gas appear a number of times as often as usual, with that many
+ * times as many glasses and webs at once; the number doubles every step. For each step it logs the act cycles
+ * simulated per second, the spread of the time each act cycle took and the heap in use, along with how many of each
+ * kind of thing there were. It stops after the first step whose act cycles no longer fit in the frame budget, and
+ * ends with how many of each kind of thing the game handled within it. Nothing is drawn, so the budget is spent on
+ * the game rules alone.
+ *
+ * Run it from the benchmarks folder once they are built:
+ *
+ *     java -cp target/benchmarks.jar StressTest seconds=60 maxMultiplier=1024 csv=stress.csv
+ *
+ * Other options are seed (the seed of every game), warmupSeconds (game time played at the start of each step before
+ * it is timed, so the code is compiled and the game has built up to its usual amount of everything) and budget
+ * (milliseconds each act cycle may take, 16.6 by default for 60 act cycles per second). An act cycle counts as fitting
+ * when 99% of them are within the budget.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class StressTest {
+	// Kinds of thing counted, in the order they are reported
+	private static final String[] KINDS = { "sprays", "gas", "coins", "glasses", "webs" };
+	private static final int BUDGET_PERCENTILE = 99;
+
+	private long seed = 1;
+	private int ticksPerStep = 60 * GameClock.TICKS_PER_SECOND;
+	private int warmupTicks = 10 * GameClock.TICKS_PER_SECOND;
+	private int maxMultiplier = 1024;
+	private double budgetMillis = 16.6;
+	private String csvFile = null;
+
+	// Results of each step that was played
+	private List<Step> steps = new ArrayList<Step>();
+
+	/**
+	 * The results of one step of the test.
+	 */
+	private static class Step {
+		private int multiplier;
+		private double ticksPerSecond;
+		// Sorted time taken by each act cycle, in nanoseconds
+		private long[] frameNanos;
+		private double[] meanCounts = new double[KINDS.length];
+		private int[] peakCounts = new int[KINDS.length];
+		private long peakHeapBytes;
+	}
+
+	/**
+	 * Run a stress test from the command line.
+	 *
+	 * @param args the options, each as name=value
+	 */
+	public static void main(String[] args) throws IOException {
+		StressTest test = new StressTest();
+		try {
+			test.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: StressTest [seed=N] [seconds=N] [warmupSeconds=N] [maxMultiplier=N] [budget=MILLIS] [csv=FILE]");
+			System.exit(1);
+		}
+		test.run();
+		test.report();
+		if (test.csvFile != null) {
+			test.writeCsv();
+		}
+	}
+
+	/**
+	 * Read the options from the command line.
+	 */
+	private void parse(String[] args) {
+		for (String arg : args) {
+			int equals = arg.indexOf('=');
+			if (equals < 0) {
+				throw new IllegalArgumentException("Expected name=value but got " + arg);
+			}
+			String value = arg.substring(equals + 1);
+			switch (arg.substring(0, equals)) {
+				case "seed":
+					seed = Long.parseLong(value);
+					break;
+				case "seconds":
+					ticksPerStep = Integer.parseInt(value) * GameClock.TICKS_PER_SECOND;
+					break;
+				case "warmupSeconds":
+					warmupTicks = Integer.parseInt(value) * GameClock.TICKS_PER_SECOND;
+					break;
+				case "maxMultiplier":
+					maxMultiplier = Integer.parseInt(value);
+					break;
+				case "budget":
+					budgetMillis = Double.parseDouble(value);
+					break;
+				case "csv":
+					csvFile = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + arg);
+			}
+		}
+	}
+
+	/**
+	 * Play every step, doubling the multiplier each time, until a step doesn't fit in the budget.
+	 */
+	private void run() {
+		System.out.printf("%10s %9s %8s %8s %8s %8s %8s %8s %8s %8s %8s %9s%n", "multiplier", "tps", "p50 ms", "p95 ms", "p99 ms", "max ms",
+			KINDS[0], KINDS[1], KINDS[2], KINDS[3], KINDS[4], "heap MB");
+		for (int multiplier = 1; multiplier <= maxMultiplier; multiplier *= 2) {
+			System.err.println("Warming up " + multiplier + "x for " + warmupTicks / GameClock.TICKS_PER_SECOND + " s");
+			Step step = play(multiplier, warmupTicks, ticksPerStep);
+			steps.add(step);
+			// Peak counts, since those are what each act cycle had to keep up with
+			System.out.printf("%10d %9.0f %8.2f %8.2f %8.2f %8.2f %8d %8d %8d %8d %8d %9.1f%n", multiplier, step.ticksPerSecond,
+				percentileMillis(step, 50), percentileMillis(step, 95), percentileMillis(step, 99), percentileMillis(step, 100),
+				step.peakCounts[0], step.peakCounts[1], step.peakCounts[2], step.peakCounts[3], step.peakCounts[4],
+				step.peakHeapBytes / 1048576.0);
+			if (!isWithinBudget(step)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Play one step of the test and return its results.
+	 *
+	 * @param multiplier the number of times as much of everything as usual
+	 * @param warmupTicks the number of act cycles to play before timing any
+	 * @param ticks the number of act cycles to time
+	 */
+	private Step play(int multiplier, int warmupTicks, int ticks) {
+		Step step = new Step();
+		step.multiplier = multiplier;
+		step.frameNanos = new long[ticks];
+		HeadlessSimulation simulation = new HeadlessSimulation(GameMode.STRESS, seed, GameSettings.DEFAULT.withSpawnMultiplier(multiplier));
+		SpiderBot bot = new SpiderBot(simulation);
+		GameWorld world = simulation.getWorld();
+		ActorRegistry registry = world.getRegistry();
+		Runtime runtime = Runtime.getRuntime();
+		int[] counts = new int[KINDS.length];
+		long[] countSums = new long[KINDS.length];
+		long totalNanos = 0;
+		for (int tick = 0; tick < warmupTicks; tick++) {
+			bot.act();
+			simulation.step();
+		}
+		for (int tick = 0; tick < ticks; tick++) {
+			// Only the game is timed, not the bot deciding what to do
+			bot.act();
+			long start = System.nanoTime();
+			simulation.step();
+			long nanos = System.nanoTime() - start;
+			step.frameNanos[tick] = nanos;
+			totalNanos += nanos;
+
+			counts[0] = registry.getSprays().size();
+			counts[1] = world.getGasCloud().getCount();
+			counts[2] = registry.getCoins().size();
+			counts[3] = registry.getGlasses().size();
+			counts[4] = registry.getWebs().size();
+			for (int kind = 0; kind < KINDS.length; kind++) {
+				countSums[kind] += counts[kind];
+				step.peakCounts[kind] = Math.max(step.peakCounts[kind], counts[kind]);
+			}
+			if (tick % GameClock.TICKS_PER_SECOND == 0) {
+				step.peakHeapBytes = Math.max(step.peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+			}
+		}
+		Arrays.sort(step.frameNanos);
+		step.ticksPerSecond = ticks * 1e9 / Math.max(1, totalNanos);
+		for (int kind = 0; kind < KINDS.length; kind++) {
+			step.meanCounts[kind] = (double) countSums[kind] / ticks;
+		}
+		return step;
+	}
+
+	/**
+	 * Check if enough of a step's act cycles fit in the budget.
+	 */
+	private boolean isWithinBudget(Step step) {
+		return percentileMillis(step, BUDGET_PERCENTILE) <= budgetMillis;
+	}
+
+	/**
+	 * Print how much the game handled within the budget.
+	 */
+	private void report() {
+		Step best = null;
+		for (Step step : steps) {
+			if (isWithinBudget(step)) {
+				best = step;
+			}
+		}
+		System.out.println();
+		if (best == null) {
+			System.out.printf("Not even the usual amount of everything fits in %.1f ms per act cycle (p%d)%n", budgetMillis, BUDGET_PERCENTILE);
+			return;
+		}
+		System.out.printf("Handled within %.1f ms per act cycle (p%d %.2f ms) at %dx spawning:%n", budgetMillis, BUDGET_PERCENTILE,
+			percentileMillis(best, BUDGET_PERCENTILE), best.multiplier);
+		for (int kind = 0; kind < KINDS.length; kind++) {
+			System.out.printf("  %-8s %6d at once, %8.1f on average%n", KINDS[kind], best.peakCounts[kind], best.meanCounts[kind]);
+		}
+		if (best == steps.get(steps.size() - 1)) {
+			System.out.println("Every step fit; raise maxMultiplier to find the limit");
+		}
+	}
+
+	/**
+	 * Write the results of every step to the CSV file, one line each.
+	 */
+	private void writeCsv() throws IOException {
+		try (PrintWriter out = new PrintWriter(new FileWriter(csvFile))) {
+			out.println("multiplier,tps,p50ms,p95ms,p99ms,maxms,peakSprays,peakGas,peakCoins,peakGlasses,peakWebs,meanSprays,meanGas,meanCoins,"
+				+ "meanGlasses,meanWebs,peakHeapBytes");
+			for (Step step : steps) {
+				out.printf("%d,%.0f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%d%n", step.multiplier, step.ticksPerSecond,
+					percentileMillis(step, 50), percentileMillis(step, 95), percentileMillis(step, 99), percentileMillis(step, 100),
+					step.peakCounts[0], step.peakCounts[1], step.peakCounts[2], step.peakCounts[3], step.peakCounts[4],
+					step.meanCounts[0], step.meanCounts[1], step.meanCounts[2], step.meanCounts[3], step.meanCounts[4], step.peakHeapBytes);
+			}
+		}
+		System.err.println("Wrote every step to " + csvFile);
+	}
+
+	/**
+	 * Return the time in milliseconds below which a percentage of a step's act cycles took.
+	 */
+	private static double percentileMillis(Step step, int percent) {
+		long[] sorted = step.frameNanos;
+		return sorted[(sorted.length - 1) * percent / 100] / 1e6;
+	}
+}
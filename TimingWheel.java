@@ -0,0 +1,215 @@
+import java.util.Arrays;
+
+/**
+ * Timers that each go off at a tick of game time, kept so that finding the timers due in a tick only looks at those
+ * timers rather than at every timer.
+ *
+ * Timers are numbered from 0 and each is either set to go off at one tick or not set at all. They are kept in three
+ * wheels of 64 slots: the first has a slot for each of the next 64 ticks, the second a slot for each of the next 64
+ * runs of 64 ticks, and the third for runs of 4096 ticks. As time reaches the start of a run, the timers in its slot
+ * are moved down to the wheel below, so each timer is only moved at most twice before it goes off. Setting a timer
+ * again or cancelling it doesn't look for where it was; the timer's generation is increased instead, and the old
+ * entry is thrown away when its slot comes up.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class TimingWheel {
+	private static final int LEVELS = 3;
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	// The last tick whose timers have gone off
+	private long current;
+	// The generation of each timer, which entries must match to still count
+	private int[] generations = new int[INITIAL_CAPACITY];
+
+	// Entries waiting in the wheels, each a timer at a generation, chained together in each slot
+	private int[] entryTimers = new int[INITIAL_CAPACITY];
+	private int[] entryGenerations = new int[INITIAL_CAPACITY];
+	private long[] entryDeadlines = new long[INITIAL_CAPACITY];
+	private int[] nextEntries = new int[INITIAL_CAPACITY];
+	private int entryCount = 0;
+	// Entries no longer in use, chained together through nextEntries
+	private int freeEntry = -1;
+	// First entry in each slot of each wheel, or -1 if the slot is empty
+	private int[] firstEntries = new int[LEVELS * SLOTS];
+	// Entries set for a tick that had already gone off, which go off in the next call to advance
+	private int overdue = -1;
+
+	// Timers that went off in the last call to advance
+	private int[] fired = new int[INITIAL_CAPACITY];
+	private int firedCount = 0;
+
+	/**
+	 * Create a new set of timers, none of them set.
+	 *
+	 * @param now the current tick, whose timers are taken to have gone off already
+	 */
+	public TimingWheel(long now) {
+		current = now;
+		Arrays.fill(firstEntries, -1);
+	}
+
+	/**
+	 * Set a timer to go off at a tick, replacing when it was set to go off before. A tick that has already gone off
+	 * goes off in the next call to advance.
+	 *
+	 * @param timer the number of the timer, from 0
+	 * @param deadline the tick to go off at
+	 */
+	public void schedule(int timer, long deadline) {
+		if (timer >= generations.length) {
+			generations = Arrays.copyOf(generations, Math.max(timer + 1, generations.length * 2));
+		}
+		int entry = newEntry();
+		entryTimers[entry] = timer;
+		entryGenerations[entry] = ++generations[timer];
+		entryDeadlines[entry] = deadline;
+		if (deadline <= current) {
+			nextEntries[entry] = overdue;
+			overdue = entry;
+		} else {
+			insert(entry);
+		}
+	}
+
+	/**
+	 * Stop a timer from going off, if it was set.
+	 *
+	 * @param timer the number of the timer
+	 */
+	public void cancel(int timer) {
+		if (timer < generations.length) {
+			generations[timer]++;
+		}
+	}
+
+	/**
+	 * Let time pass up to a tick, finding the timers that go off on the way. Timers go off once; each must be set
+	 * again to go off again.
+	 *
+	 * @param now the tick to advance to
+	 * @return the number of timers that went off, which are returned by getFired
+	 */
+	public int advance(long now) {
+		firedCount = 0;
+		int entry = overdue;
+		overdue = -1;
+		while (entry >= 0) {
+			int next = nextEntries[entry];
+			fire(entry);
+			entry = next;
+		}
+		while (current < now) {
+			current++;
+			// Move timers down from the wheels above as time reaches the start of their runs, from the top down
+			for (int level = LEVELS - 1; level > 0; level--) {
+				int shift = level * SLOT_BITS;
+				if ((current & ((1L << shift) - 1)) == 0) {
+					cascade(level * SLOTS + (int) ((current >> shift) & SLOT_MASK));
+				}
+			}
+			int slot = (int) (current & SLOT_MASK);
+			entry = firstEntries[slot];
+			firstEntries[slot] = -1;
+			while (entry >= 0) {
+				int next = nextEntries[entry];
+				fire(entry);
+				entry = next;
+			}
+		}
+		return firedCount;
+	}
+
+	/**
+	 * Return a timer that went off in the last call to advance.
+	 *
+	 * @param index the position of the timer, from 0 up to but not including the number that went off
+	 */
+	public int getFired(int index) {
+		return fired[index];
+	}
+
+	/**
+	 * Put an entry in the slot of the lowest wheel that reaches its tick.
+	 */
+	private void insert(int entry) {
+		long deadline = entryDeadlines[entry];
+		int level = 0;
+		while (level < LEVELS - 1 && (deadline >> (level * SLOT_BITS)) - (current >> (level * SLOT_BITS)) >= SLOTS) {
+			level++;
+		}
+		int shift = level * SLOT_BITS;
+		// Ticks beyond the top wheel wait in its furthest slot, and are put back in when that slot comes up
+		long run = Math.min(deadline >> shift, (current >> shift) + SLOTS - 1);
+		int slot = level * SLOTS + (int) (run & SLOT_MASK);
+		nextEntries[entry] = firstEntries[slot];
+		firstEntries[slot] = entry;
+	}
+
+	/**
+	 * Move every entry in a slot down to the wheels below, or set it off if its tick has come.
+	 */
+	private void cascade(int slot) {
+		int entry = firstEntries[slot];
+		firstEntries[slot] = -1;
+		while (entry >= 0) {
+			int next = nextEntries[entry];
+			if (entryGenerations[entry] != generations[entryTimers[entry]]) {
+				// The timer was set again or cancelled since
+				freeEntry(entry);
+			} else if (entryDeadlines[entry] <= current) {
+				fire(entry);
+			} else {
+				insert(entry);
+			}
+			entry = next;
+		}
+	}
+
+	/**
+	 * Set off the timer of an entry if the entry still counts, and free the entry.
+	 */
+	private void fire(int entry) {
+		int timer = entryTimers[entry];
+		if (entryGenerations[entry] == generations[timer]) {
+			if (firedCount == fired.length) {
+				fired = Arrays.copyOf(fired, firedCount * 2);
+			}
+			fired[firedCount++] = timer;
+			// Each timer goes off once per setting
+			generations[timer]++;
+		}
+		freeEntry(entry);
+	}
+
+	/**
+	 * Return an unused entry, making room for more entries if there are none.
+	 */
+	private int newEntry() {
+		if (freeEntry >= 0) {
+			int entry = freeEntry;
+			freeEntry = nextEntries[entry];
+			return entry;
+		}
+		if (entryCount == entryTimers.length) {
+			int capacity = entryCount * 2;
+			entryTimers = Arrays.copyOf(entryTimers, capacity);
+			entryGenerations = Arrays.copyOf(entryGenerations, capacity);
+			entryDeadlines = Arrays.copyOf(entryDeadlines, capacity);
+			nextEntries = Arrays.copyOf(nextEntries, capacity);
+		}
+		return entryCount++;
+	}
+
+	/**
+	 * Put an entry back to be used again.
+	 */
+	private void freeEntry(int entry) {
+		nextEntries[entry] = freeEntry;
+		freeEntry = entry;
+	}
+}
@@ -13,6 +13,10 @@ public class TitleWorld extends World {
 	public TitleWorld() {
 		// Create a new world with 600x400 cells with a cell size of 1x1 pixels.
 		super(600, 400, 1);
+		// Coming back here, such as by resetting, leaves any game being played
+		GameWorld.stopPlaying();
+		// Load everything the game needs while the player is on the menus
+		Assets.preload();
 		Label titleLabel = new Label("Super Spider", 100);
 		titleLabel.setFillColor(Color.BLACK);
 		addObject(titleLabel, 300, 150);
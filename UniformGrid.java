@@ -0,0 +1,91 @@
+import java.util.Arrays;
+
+/**
+ * A grid of equal square cells over an area, holding numbered items at points, so that the items near a point can be
+ * found by looking in a few cells rather than at every item.
+ *
+ * The items of each cell are chained together through an array, so adding items and emptying the grid never create
+ * anything once the grid has grown to the number of items. Points outside the area go in the nearest cell at its edge.
+ * To look through the items near a point, loop over the cells from getColumn and getRow, following each cell's chain
+ * from getFirst with getNext until it returns -1.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class UniformGrid {
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int cellSize;
+	private int columns;
+	private int rows;
+	// First item in each cell, or -1 if the cell is empty
+	private int[] firstItems;
+	// Next item in the same cell as each item, or -1 if it is the last
+	private int[] nextItems = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Create a new empty grid.
+	 *
+	 * @param width the width of the area covered, starting at 0
+	 * @param height the height of the area covered, starting at 0
+	 * @param cellSize the width and height of each cell
+	 */
+	public UniformGrid(int width, int height, int cellSize) {
+		this.cellSize = cellSize;
+		columns = (width + cellSize - 1) / cellSize;
+		rows = (height + cellSize - 1) / cellSize;
+		firstItems = new int[columns * rows];
+		clear();
+	}
+
+	/**
+	 * Remove every item from this grid.
+	 */
+	public void clear() {
+		Arrays.fill(firstItems, -1);
+	}
+
+	/**
+	 * Add an item at a point. An item must only be in the grid once at a time.
+	 *
+	 * @param item the number of the item, from 0
+	 * @param x the x-coordinate of the item
+	 * @param y the y-coordinate of the item
+	 */
+	public void add(int item, int x, int y) {
+		if (item >= nextItems.length) {
+			nextItems = Arrays.copyOf(nextItems, Math.max(item + 1, nextItems.length * 2));
+		}
+		int cell = getRow(y) * columns + getColumn(x);
+		nextItems[item] = firstItems[cell];
+		firstItems[cell] = item;
+	}
+
+	/**
+	 * Return the column of the cell holding an x-coordinate.
+	 */
+	public int getColumn(int x) {
+		return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+	}
+
+	/**
+	 * Return the row of the cell holding a y-coordinate.
+	 */
+	public int getRow(int y) {
+		return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+	}
+
+	/**
+	 * Return the first item in a cell, or -1 if the cell is empty.
+	 */
+	public int getFirst(int column, int row) {
+		return firstItems[row * columns + column];
+	}
+
+	/**
+	 * Return the item after an item in the same cell, or -1 if it is the last.
+	 */
+	public int getNext(int item) {
+		return nextItems[item];
+	}
+}
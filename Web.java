@@ -1,5 +1,4 @@
 import greenfoot.*;
-import java.util.LinkedList;
 
 /**
  * A spider web which the Spider may walk on
@@ -8,48 +7,94 @@ import java.util.LinkedList;
  * @version June 2022
  */
 public class Web extends AnimatedActor {
-	private static final int MAX_WEB_COUNT = 3;
-	// Number of milliseconds that a web will exist for after being locked in
-	private static final int MIN_LIFESPAN = 1000;
-	private static final int MAX_LIFESPAN = 5000;
 	// Area of a web to be considered large
 	private static final int LARGE_AREA = 600 * 400;
+	// Webs being dragged are drawn at sizes rounded up to a step of at least DRAG_SIZE_STEP pixels, growing to about
+	// 1/DRAG_SIZE_DIVISOR of larger sizes, so that nearby drag positions share images
+	private static final int DRAG_SIZE_STEP = 8;
+	private static final int DRAG_SIZE_DIVISOR = 16;
 
-	private static LinkedList<Web> webs = new LinkedList<Web>();
-
-	private static GreenfootImage notlockedImage;
-	private static GreenfootImage lockedImage;
+	private static WebImageCache notlockedImages;
+	private static WebImageCache lockedImages;
 	private static boolean hasLoadedImages = false;
 
 	private int startX;
 	private int startY;
+	// Size of this web's image, which its shape is worked out from
+	private int width = 1;
+	private int height = 1;
+	private boolean isImageStale = false;
 	private boolean isLockedIn = false;
 
 	/**
 	 * Create a new Web.
 	 *
+	 * @param components the components of the game that this web belongs to
+	 * @param startX the position of the left side of this web
+	 * @param startY the position of the top of this web
+	 */
+	public Web(ActorComponents components, int startX, int startY) {
+		super(components);
+		loadImages();
+		begin(startX, startY);
+	}
+
+	/**
+	 * Make this web new again at a new position, to be reused after it was removed from its world.
+	 *
 	 * @param startX the position of the left side of this web
 	 * @param startY the position of the top of this web
 	 */
-	public Web(int startX, int startY) {
+	public void reset(int startX, int startY) {
+		super.reset();
+		begin(startX, startY);
+	}
+
+	/**
+	 * Start this web out with no size at a position.
+	 */
+	private void begin(int startX, int startY) {
 		this.startX = startX;
 		this.startY = startY;
+		width = 1;
+		height = 1;
+		isImageStale = false;
+		isLockedIn = false;
 		setLocation(startX, startY);
-		if (!hasLoadedImages) {
-			// Load and set initial image, used to prevent data loss from upscaling after downscaling
-			notlockedImage = new GreenfootImage("images/web-notlocked.png");
-			lockedImage = new GreenfootImage("images/web.png");
-			hasLoadedImages = true;
-		}
 		// A web will initially have no size
-		GreenfootImage image = new GreenfootImage(notlockedImage);
-		image.scale(1, 1);
-		setImage(image);
-		webs.addLast(this);
+		setImage(notlockedImages.get(width, height));
+	}
+
+	/**
+	 * Load all images that web actors use.
+	 */
+	public static synchronized void loadImages() {
+		if (hasLoadedImages) {
+			return;
+		}
+		// Webs are always scaled from the original images, to prevent data loss from upscaling after downscaling
+		notlockedImages = new WebImageCache(Assets.getImage("images/web-notlocked.png"));
+		lockedImages = new WebImageCache(Assets.getImage("images/web.png"));
+		hasLoadedImages = true;
 	}
 
 	/**
-	 * Update this web's position and size from a mouse drag.
+	 * Return the width of this web's image.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Return the height of this web's image.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Update this web's position and size from a mouse drag. The image is only redrawn by updateImage, which the game
+	 * world calls once per act cycle, so it is drawn once per act cycle however many times the web is dragged.
 	 *
 	 * @param endX the position of the right side of this web
 	 * @param endY the position of the bottom of this web
@@ -58,16 +103,32 @@ public class Web extends AnimatedActor {
 		int width = endX - startX;
 		int height = endY - startY;
 		// Adjust for the circular web because it doesn't reach the corner of the image
-		int imageWidth = width != 0 ? Math.abs(width * 381 / 296) : 1;
-		int imageHeight = height != 0 ? Math.abs(height * 347 / 230) : 1;
-		// Resize the web image
-		GreenfootImage image = new GreenfootImage(notlockedImage);
-		image.scale(imageWidth, imageHeight);
-		setImage(image);
+		this.width = width != 0 ? Math.abs(width * 381 / 296) : 1;
+		this.height = height != 0 ? Math.abs(height * 347 / 230) : 1;
+		isImageStale = true;
 		// Update this web's location (location is centred in image)
 		setLocation(startX + width / 2, startY + height / 2);
 	}
 
+	/**
+	 * Draw this web at its dragged size.
+	 */
+	private void updateDragImage() {
+		isImageStale = false;
+		if (isHeadless()) {
+			return;
+		}
+		setImage(notlockedImages.get(roundDragSize(width), roundDragSize(height)));
+	}
+
+	/**
+	 * Round a size up to the size that a dragged web is drawn at.
+	 */
+	private static int roundDragSize(int size) {
+		int step = Math.max(DRAG_SIZE_STEP, Integer.highestOneBit(size / DRAG_SIZE_DIVISOR));
+		return (size + step - 1) / step * step;
+	}
+
 	/**
 	 * Return whether or not this web is locked in.
 	 */
@@ -79,26 +140,29 @@ public class Web extends AnimatedActor {
 	 * Lock in this web and start its timer.
 	 */
 	public void lockIn() {
+		GameWorld world = (GameWorld) getWorld();
+		GameSettings settings = world.getSettings();
 		// Remove the oldest web after reaching the max to prevent the player from creating unlimited webs
-		if (webs.size() >= MAX_WEB_COUNT) {
-			Web oldestWeb = webs.removeFirst();
+		WebRing webRing = world.getRegistry().getWebRing();
+		if (webRing.size() >= settings.getMaxWebCount()) {
+			Web oldestWeb = webRing.removeOldest();
 			oldestWeb.fadeAway();
 		}
-		// Switch to the locked-in image
-		GreenfootImage image = new GreenfootImage(lockedImage);
-		GreenfootImage currentImage = getImage();
-		int width = currentImage.getWidth();
-		int height = currentImage.getHeight();
-		image.scale(width, height);
-		setImage(image);
-		// Start timing the existence of this web
-		int lifespan = (LARGE_AREA - width * height) * MAX_LIFESPAN / LARGE_AREA;
-		if (lifespan < MIN_LIFESPAN) {
-			lifespan = MIN_LIFESPAN;
+		// Switch to the locked-in image, at exactly the size of this web
+		isImageStale = false;
+		if (!isHeadless()) {
+			setImage(lockedImages.get(width, height));
+		}
+		// Start timing the existence of this web, which is shorter the larger this web is
+		int lifespan = (int) ((long) (LARGE_AREA - width * height) * settings.getWebMaxLifespan() / LARGE_AREA);
+		if (lifespan < settings.getWebMinLifespan()) {
+			lifespan = settings.getWebMinLifespan();
 		}
 		setLifespan(lifespan);
 		startLifespan();
 		isLockedIn = true;
+		webRing.add(this);
+		world.addLockedWeb(this);
 	}
 
 	/**
@@ -110,19 +174,17 @@ public class Web extends AnimatedActor {
 	 */
 	public boolean isUnderPoint(int x, int y) {
 		// Since webs may be elliptical, Actor.getObjectsInRange doesn't cut it
-		GreenfootImage image = getImage();
-		double a = Math.pow(x - getX(), 2) / Math.pow(image.getWidth() / 2, 2);
-		double b = Math.pow(y - getY(), 2) / Math.pow(image.getHeight() / 2, 2);
+		double a = Math.pow(x - getX(), 2) / Math.pow(width / 2, 2);
+		double b = Math.pow(y - getY(), 2) / Math.pow(height / 2, 2);
 		return a + b < 1.0;
 	}
 
 	/**
-	 * Update this web.
+	 * Draw this web at its dragged size if it was dragged since it was last drawn.
 	 */
-	public void act() {
-		if (((GameWorld) getWorld()).isOver()) {
-			return;
+	public void updateImage() {
+		if (isImageStale) {
+			updateDragImage();
 		}
-		updateFade();
 	}
 }
@@ -0,0 +1,59 @@
+import greenfoot.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A cache of scaled copies of one web image, keeping the most recently used sizes within a memory budget.
+ *
+ * Scaling a web image is the most expensive thing the game draws, and webs of the same size are needed again and
+ * again: every new life starts on the same web, and a drag passes through the same sizes as the last one.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class WebImageCache {
+	// Greatest number of pixels to keep in all cached images together, at 4 bytes each; enough for the sizes of a
+	// couple of drags across the whole world
+	private static final int MAX_PIXELS = 8 * 1024 * 1024;
+
+	private GreenfootImage source;
+	// Cached images by size, least recently used first
+	private LinkedHashMap<Long, GreenfootImage> images = new LinkedHashMap<Long, GreenfootImage>(64, 0.75f, true);
+	private long pixels = 0;
+
+	/**
+	 * Create a new cache of scaled copies of an image.
+	 *
+	 * @param source the image to scale, which is always scaled from so no detail is lost by scaling twice
+	 */
+	public WebImageCache(GreenfootImage source) {
+		this.source = source;
+	}
+
+	/**
+	 * Return a copy of the image scaled to a size, scaling it only if that size isn't cached.
+	 *
+	 * @param width the width to scale to
+	 * @param height the height to scale to
+	 * @return the scaled image, which must not be changed
+	 */
+	public synchronized GreenfootImage get(int width, int height) {
+		Long key = ((long) width << 32) | height;
+		GreenfootImage image = images.get(key);
+		if (image != null) {
+			return image;
+		}
+		image = new GreenfootImage(source);
+		image.scale(width, height);
+		images.put(key, image);
+		pixels += (long) width * height;
+		// Forget the least recently used sizes until back within budget, always keeping the newest
+		Iterator<GreenfootImage> iterator = images.values().iterator();
+		while (pixels > MAX_PIXELS && images.size() > 1) {
+			GreenfootImage eldest = iterator.next();
+			pixels -= (long) eldest.getWidth() * eldest.getHeight();
+			iterator.remove();
+		}
+		return image;
+	}
+}
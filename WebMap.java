@@ -0,0 +1,128 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A map of which points in a world are covered by locked webs, so that checking whether a point is on a web costs
+ * the same however many webs there are.
+ *
+ * The map is one bit per point, packed into rows of longs. It is updated when a web is locked in or removed, which
+ * happens far less often than the spider checks where it can walk.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class WebMap {
+	private int width;
+	private int height;
+	private int wordsPerRow;
+	private long[] bits;
+	private ArrayList<Web> webs = new ArrayList<Web>();
+
+	/**
+	 * Create a new empty web map.
+	 *
+	 * @param width the width of the world to map
+	 * @param height the height of the world to map
+	 */
+	public WebMap(int width, int height) {
+		this.width = width;
+		this.height = height;
+		wordsPerRow = (width + 63) / 64;
+		bits = new long[wordsPerRow * height];
+	}
+
+	/**
+	 * Mark the area of a locked web as covered.
+	 *
+	 * @param web the web to add, which must be in a world and not move afterwards
+	 */
+	public void add(Web web) {
+		webs.add(web);
+		draw(web);
+	}
+
+	/**
+	 * Unmark the area of a web, keeping any of it that other webs still cover.
+	 *
+	 * @param web the web to remove
+	 */
+	public void remove(Web web) {
+		if (!webs.remove(web)) {
+			return;
+		}
+		// Overlapping webs can't be told apart in the map, so redraw the ones that are left
+		Arrays.fill(bits, 0L);
+		for (Web other : webs) {
+			draw(other);
+		}
+	}
+
+	/**
+	 * Check if a point is covered by a locked web.
+	 *
+	 * @param x the x-coordinate of the point
+	 * @param y the y-coordinate of the point
+	 * @return true if the point is on a locked web, false if not
+	 */
+	public boolean isCovered(int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + (x >> 6)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Set the bits of all points that are under a web.
+	 */
+	private void draw(Web web) {
+		int centreX = web.getX();
+		int centreY = web.getY();
+		int halfWidth = web.getWidth() / 2;
+		int halfHeight = web.getHeight() / 2;
+		if (halfWidth == 0 || halfHeight == 0) {
+			// Too thin to have anything under it
+			return;
+		}
+		int top = Math.max(centreY - halfHeight, 0);
+		int bottom = Math.min(centreY + halfHeight, height - 1);
+		for (int y = top; y <= bottom; y++) {
+			if (!web.isUnderPoint(centreX, y)) {
+				continue;
+			}
+			// Estimate how far this row of the ellipse reaches, then settle it with the web's own test so the map
+			// agrees with it exactly
+			double dy = (double) (y - centreY) / halfHeight;
+			int reach = (int) (halfWidth * Math.sqrt(Math.max(1.0 - dy * dy, 0.0)));
+			while (reach > 0 && !web.isUnderPoint(centreX + reach, y)) {
+				reach--;
+			}
+			while (web.isUnderPoint(centreX + reach + 1, y)) {
+				reach++;
+			}
+			setRow(y, Math.max(centreX - reach, 0), Math.min(centreX + reach, width - 1));
+		}
+	}
+
+	/**
+	 * Set the bits of a run of points in a row.
+	 */
+	private void setRow(int y, int left, int right) {
+		if (left > right) {
+			return;
+		}
+		int rowStart = y * wordsPerRow;
+		int firstWord = left >> 6;
+		int lastWord = right >> 6;
+		long firstMask = -1L << left;
+		long lastMask = -1L >>> (63 - (right & 63));
+		if (firstWord == lastWord) {
+			bits[rowStart + firstWord] |= firstMask & lastMask;
+			return;
+		}
+		bits[rowStart + firstWord] |= firstMask;
+		for (int word = firstWord + 1; word < lastWord; word++) {
+			bits[rowStart + word] = -1L;
+		}
+		bits[rowStart + lastWord] |= lastMask;
+	}
+}
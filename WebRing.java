@@ -0,0 +1,77 @@
+/**
+ * The locked-in webs in a world that count towards the greatest number of webs the player may have, oldest first.
+ *
+ * The webs are kept in a fixed-size ring, so making room for a new web never moves or creates anything. A web is only
+ * counted once it is locked in, which is also the only time the oldest web is pushed out to make room.
+ *
+ * @author Martin Baldwin
+ * @version October 2026
+ */
+public class WebRing {
+	private Web[] webs;
+	// Position of the oldest web in the ring
+	private int first = 0;
+	private int size = 0;
+
+	/**
+	 * Create a new empty ring.
+	 *
+	 * @param capacity the greatest number of webs to count at once
+	 */
+	public WebRing(int capacity) {
+		webs = new Web[capacity];
+	}
+
+	/**
+	 * Count a new web, after making room for it with removeOldest if the ring is full.
+	 *
+	 * @param web the web to add
+	 */
+	public void add(Web web) {
+		if (size == webs.length) {
+			throw new IllegalStateException("No room for another web");
+		}
+		webs[(first + size) % webs.length] = web;
+		size++;
+	}
+
+	/**
+	 * Stop counting the oldest web.
+	 *
+	 * @return the web that was the oldest
+	 */
+	public Web removeOldest() {
+		Web oldest = webs[first];
+		webs[first] = null;
+		first = (first + 1) % webs.length;
+		size--;
+		return oldest;
+	}
+
+	/**
+	 * Stop counting a web, such as once it has been removed from its world.
+	 *
+	 * @param web the web to remove
+	 */
+	public void remove(Web web) {
+		for (int i = 0; i < size; i++) {
+			if (webs[(first + i) % webs.length] != web) {
+				continue;
+			}
+			// Close the gap by moving every newer web back one place
+			for (int j = i; j < size - 1; j++) {
+				webs[(first + j) % webs.length] = webs[(first + j + 1) % webs.length];
+			}
+			size--;
+			webs[(first + size) % webs.length] = null;
+			return;
+		}
+	}
+
+	/**
+	 * Return the number of webs being counted.
+	 */
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,378 @@
+import greenfoot.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Random;
+import superspider.bench.Fixture;
+
+/**
+ * Builds the fixtures that the benchmarks in superspider.bench run.
+ *
+ * This class is in the default package along with the scenario, so it may use the scenario's package-private and
+ * protected members. Private members are reached through method handles.
+ */
+public class BenchmarkFixtures {
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * Create a game world that is drawn, but controlled by code.
+	 */
+	private static GameWorld createWorld(SimulatedInput input) {
+		return new GameWorld(GameMode.EASY, input, false);
+	}
+
+	/**
+	 * Replace the webs of a world with a number of locked webs, of which only the last one is under the spider.
+	 */
+	private static void replaceWebs(GameWorld world, int webCount) {
+		world.removeObjects(world.getObjects(Web.class));
+		for (int i = 0; i < webCount - 1; i++) {
+			// Small webs along the top of the world, away from the spider
+			int x = i * 600 / webCount;
+			addLockedWeb(world, x, 0, x + 20, 20);
+		}
+		addLockedWeb(world, 200, 100, 400, 300);
+	}
+
+	private static Web addLockedWeb(GameWorld world, int startX, int startY, int endX, int endY) {
+		Web web = new Web(world.getComponents(), startX, startY);
+		world.addObject(web, 0, 0);
+		web.drag(endX, endY);
+		web.lockIn();
+		return web;
+	}
+
+	private static MethodHandle spiderMethod(String name) {
+		try {
+			Method method = Spider.class.getDeclaredMethod(name);
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean invoke(MethodHandle handle, Spider spider) {
+		try {
+			return (boolean) handle.invokeExact(spider);
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Spider.updateLocation on a number of webs, moving right and left on alternate runs.
+	 */
+	public static Fixture spiderUpdateLocation(int webCount) {
+		final SimulatedInput input = new SimulatedInput();
+		GameWorld world = createWorld(input);
+		replaceWebs(world, webCount);
+		final Spider spider = world.getSpider();
+		final MethodHandle updateLocation = spiderMethod("updateLocation");
+		return new Fixture() {
+			private boolean isMovingRight = false;
+
+			public Object run() {
+				isMovingRight = !isMovingRight;
+				input.holdKeys(!isMovingRight, isMovingRight, false, false);
+				input.poll();
+				return invoke(updateLocation, spider);
+			}
+		};
+	}
+
+	/**
+	 * Spider.isOnWeb on a number of webs.
+	 */
+	public static Fixture spiderIsOnWeb(int webCount) {
+		GameWorld world = createWorld(new SimulatedInput());
+		replaceWebs(world, webCount);
+		final Spider spider = world.getSpider();
+		final MethodHandle isOnWeb = spiderMethod("isOnWeb");
+		return new Fixture() {
+			public Object run() {
+				return invoke(isOnWeb, spider);
+			}
+		};
+	}
+
+	/**
+	 * Spider.updateAnimationFrame while the spider faces right.
+	 */
+	public static Fixture spiderUpdateAnimationFrameFacingRight(int webCount) {
+		SimulatedInput input = new SimulatedInput();
+		GameWorld world = createWorld(input);
+		replaceWebs(world, webCount);
+		final Spider spider = world.getSpider();
+		// Take one step to the right to face right
+		input.holdKeys(false, true, false, false);
+		input.poll();
+		invoke(spiderMethod("updateLocation"), spider);
+		input.holdKeys(false, false, false, false);
+		input.poll();
+		return new Fixture() {
+			public Object run() {
+				spider.updateAnimationFrame();
+				return spider.getImage();
+			}
+		};
+	}
+
+	/**
+	 * Web.drag for every event of one mouse drag, drawing the web after each one as happens once per act cycle. Each
+	 * drag ends a few pixels away from the last one.
+	 */
+	public static Fixture webDrag(final int dragEvents) {
+		final GameWorld world = createWorld(new SimulatedInput());
+		final Web web = new Web(world.getComponents(), 50, 30);
+		world.addObject(web, 0, 0);
+		return new Fixture() {
+			private int runs = 0;
+
+			public Object run() {
+				int offset = runs++ % 8;
+				for (int i = 1; i <= dragEvents; i++) {
+					web.drag(50 + (500 + offset) * i / dragEvents, 30 + (340 + offset) * i / dragEvents);
+					web.updateImage();
+				}
+				return web.getImage();
+			}
+		};
+	}
+
+	/**
+	 * Fade out one actor completely with the world's fade system, returning the number of fade steps.
+	 */
+	private static int fadeOut(GameWorld world, AnimatedActor actor) {
+		actor.fadeAway();
+		ActorComponents components = world.getComponents();
+		int steps = 0;
+		while (actor.getWorld() == world) {
+			components.updateFades();
+			steps++;
+		}
+		return steps;
+	}
+
+	/**
+	 * A complete fade of a new coin.
+	 */
+	public static Fixture fadeCoin(int unused) {
+		final GameWorld world = createWorld(new SimulatedInput());
+		return new Fixture() {
+			public Object run() {
+				Coin coin = new Coin(world.getComponents());
+				world.addObject(coin, 300, 200);
+				return fadeOut(world, coin);
+			}
+		};
+	}
+
+	/**
+	 * A complete fade of a new large locked web.
+	 */
+	public static Fixture fadeWeb(int unused) {
+		final GameWorld world = createWorld(new SimulatedInput());
+		return new Fixture() {
+			public Object run() {
+				return fadeOut(world, addLockedWeb(world, 100, 50, 500, 350));
+			}
+		};
+	}
+
+	/**
+	 * The animation and fade systems for one act cycle, over a number of coins spread over a headless world. Coins are
+	 * put back as they fade away, so the number stays the same.
+	 */
+	public static Fixture actorSystems(final int coinCount) {
+		final GameWorld world = new GameWorld(GameMode.EASY, new SimulatedInput(), true, 1);
+		final ActorComponents components = world.getComponents();
+		final Random random = new Random(1);
+		return new Fixture() {
+			public Object run() {
+				while (world.getRegistry().getCoins().size() < coinCount) {
+					world.addObject(new Coin(components), random.nextInt(600), random.nextInt(400));
+				}
+				world.getClock().tick();
+				components.updateAnimations();
+				components.updateFades();
+				return components.getActiveCount();
+			}
+		};
+	}
+
+	/**
+	 * The sprays' movement for one act cycle, with a number of sprays moving into a headless world, waiting and moving
+	 * out again. Sprays are put back as they leave, so the number stays the same.
+	 */
+	public static Fixture actorMovement(final int sprayCount) {
+		final GameWorld world = new GameWorld(GameMode.EASY, new SimulatedInput(), true, 1);
+		final ActorList<Spray> sprays = world.getRegistry().getSprays();
+		final Spray[] allSprays = new Spray[sprayCount];
+		for (int i = 0; i < sprayCount; i++) {
+			allSprays[i] = new Spray(world.getComponents());
+		}
+		return new Fixture() {
+			public Object run() {
+				for (Spray spray : allSprays) {
+					if (spray.getWorld() == null) {
+						spray.reset();
+						world.addObject(spray, 0, 0);
+					}
+				}
+				world.getClock().tick();
+				for (int i = sprays.size() - 1; i >= 0; i--) {
+					sprays.get(i).updateMovement();
+				}
+				world.getComponents().updateMovement();
+				return allSprays[0];
+			}
+		};
+	}
+
+	/**
+	 * GasCloud.update with a number of puffs of gas, sprayed from the middle of a drawn world and topped up as puffs
+	 * drift away.
+	 */
+	public static Fixture gasCloudAct(final int puffCount) {
+		GameWorld world = createWorld(new SimulatedInput());
+		final Spray spray = new Spray(world.getComponents());
+		world.addObject(spray, 0, 0);
+		spray.setLocation(300, 200);
+		final GasCloud cloud = world.getGasCloud();
+		return new Fixture() {
+			public Object run() {
+				while (cloud.getCount() < puffCount) {
+					cloud.add(spray);
+				}
+				cloud.update();
+				return cloud.getImage();
+			}
+		};
+	}
+
+	/**
+	 * The spider's collision checks for one act cycle, looking for gas within its hit radius and for coins it touches,
+	 * among a number of puffs of gas and an eighth as many coins spread over the world away from the spider.
+	 */
+	public static Fixture spiderCollisions(int puffCount) {
+		GameWorld world = createWorld(new SimulatedInput());
+		final Spider spider = world.getSpider();
+		final GasCloud cloud = world.getGasCloud();
+		Spray spray = new Spray(world.getComponents());
+		world.addObject(spray, 0, 0);
+		Random random = new Random(1);
+		for (int i = 0; i < puffCount; i++) {
+			int[] point = pointAwayFromSpider(random, spider);
+			// A spray facing right sprays from a nozzle up and to its right
+			spray.setLocation(point[0] - 83, point[1] + 84);
+			cloud.add(spray);
+		}
+		for (int i = 0; i < puffCount / 8; i++) {
+			int[] point = pointAwayFromSpider(random, spider);
+			world.addObject(new Coin(world.getComponents()), point[0], point[1]);
+		}
+		final MethodHandle collectCoins;
+		final MethodHandle isTouchingGas;
+		try {
+			Method method = Spider.class.getDeclaredMethod("collectCoins");
+			method.setAccessible(true);
+			collectCoins = MethodHandles.lookup().unreflect(method);
+			method = Spider.class.getDeclaredMethod("isTouchingGas");
+			method.setAccessible(true);
+			isTouchingGas = MethodHandles.lookup().unreflect(method);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+		return new Fixture() {
+			public Object run() {
+				try {
+					collectCoins.invokeExact(spider);
+					return (boolean) isTouchingGas.invokeExact(spider);
+				} catch (Throwable e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Return a random point in the world too far from the spider for gas or coins there to touch it.
+	 */
+	private static int[] pointAwayFromSpider(Random random, Spider spider) {
+		while (true) {
+			int x = random.nextInt(600);
+			int y = random.nextInt(400);
+			int dx = x - spider.getX();
+			int dy = y - spider.getY();
+			if (dx * dx + dy * dy > 120 * 120) {
+				return new int[] { x, y };
+			}
+		}
+	}
+
+	/**
+	 * A whole recorded game replayed without a display, from creating the world until the recording runs out.
+	 */
+	public static Fixture replay(int unused) {
+		final byte[] recording = readResource("replays/bot-hard.ssr");
+		return new Fixture() {
+			public Object run() {
+				ReplayInput replay;
+				try {
+					replay = new ReplayInput(new ByteArrayInputStream(recording));
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+				HeadlessSimulation simulation = new HeadlessSimulation(replay);
+				while (!replay.isFinished() && !simulation.getWorld().isOver()) {
+					simulation.step();
+				}
+				return simulation.getTicks();
+			}
+		};
+	}
+
+	private static byte[] readResource(String name) {
+		try (InputStream in = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(name)) {
+			if (in == null) {
+				throw new IllegalStateException("Missing resource: " + name);
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int count;
+			while ((count = in.read(buffer)) > 0) {
+				bytes.write(buffer, 0, count);
+			}
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The game timer's label, one act cycle of game time later on every run.
+	 */
+	public static Fixture labelTimer(int unused) {
+		final Label label = new Label(0, 50);
+		return new Fixture() {
+			private long ticks = 0;
+			private int shownSeconds = -1;
+
+			public Object run() {
+				// Update the label as GameWorld.act does
+				int seconds = GameClock.toMillis(ticks++) / 1000;
+				if (seconds != shownSeconds) {
+					shownSeconds = seconds;
+					label.setValue(GameWorld.formatTime(seconds));
+				}
+				return label.getImage();
+			}
+		};
+	}
+}
@@ -0,0 +1,200 @@
+package greenfoot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stub of greenfoot.Actor with Greenfoot's location, rotation and collision semantics.
+ */
+public abstract class Actor {
+	private static GreenfootImage defaultImage;
+
+	World world;
+	int x;
+	int y;
+	private int rotation;
+	private GreenfootImage image;
+
+	public Actor() {
+		if (defaultImage == null) {
+			defaultImage = new GreenfootImage(1, 1);
+		}
+		image = defaultImage;
+	}
+
+	public void act() {
+	}
+
+	protected void addedToWorld(World world) {
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public <W> W getWorldOfType(Class<W> worldClass) {
+		return worldClass.cast(world);
+	}
+
+	private void failIfNotInWorld() {
+		if (world == null) {
+			throw new IllegalStateException("Actor not in world. An attempt was made to use the actor's location while it is not in the world.");
+		}
+	}
+
+	public int getX() {
+		failIfNotInWorld();
+		return x;
+	}
+
+	public int getY() {
+		failIfNotInWorld();
+		return y;
+	}
+
+	public int getRotation() {
+		return rotation;
+	}
+
+	public void setRotation(int rotation) {
+		rotation %= 360;
+		if (rotation < 0) {
+			rotation += 360;
+		}
+		this.rotation = rotation;
+	}
+
+	public void turn(int amount) {
+		setRotation(rotation + amount);
+	}
+
+	public void turnTowards(int x, int y) {
+		double angle = Math.atan2(y - this.y, x - this.x);
+		setRotation((int) Math.toDegrees(angle));
+	}
+
+	public void setLocation(int x, int y) {
+		if (world == null) {
+			return;
+		}
+		if (world.isBounded()) {
+			x = Math.max(0, Math.min(world.getWidth() - 1, x));
+			y = Math.max(0, Math.min(world.getHeight() - 1, y));
+		}
+		this.x = x;
+		this.y = y;
+	}
+
+	public void move(int distance) {
+		double radians = Math.toRadians(rotation);
+		int dx = (int) Math.round(Math.cos(radians) * distance);
+		int dy = (int) Math.round(Math.sin(radians) * distance);
+		setLocation(x + dx, y + dy);
+	}
+
+	public boolean isAtEdge() {
+		failIfNotInWorld();
+		return x <= 0 || y <= 0 || x >= world.getWidth() - 1 || y >= world.getHeight() - 1;
+	}
+
+	public GreenfootImage getImage() {
+		return image;
+	}
+
+	public void setImage(GreenfootImage image) {
+		this.image = image;
+	}
+
+	public void setImage(String filename) {
+		setImage(new GreenfootImage(filename));
+	}
+
+	/**
+	 * Return the bounds of this actor's rotated image as {left, top, right, bottom}, right and bottom exclusive.
+	 */
+	int[] getBounds() {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		if (rotation % 180 != 0) {
+			double radians = Math.toRadians(rotation);
+			double cos = Math.abs(Math.cos(radians));
+			double sin = Math.abs(Math.sin(radians));
+			int rotatedWidth = (int) Math.ceil(width * cos + height * sin);
+			int rotatedHeight = (int) Math.ceil(width * sin + height * cos);
+			width = rotatedWidth;
+			height = rotatedHeight;
+		}
+		int left = x - width / 2;
+		int top = y - height / 2;
+		return new int[] {left, top, left + width, top + height};
+	}
+
+	boolean containsPoint(int px, int py) {
+		int[] bounds = getBounds();
+		return px >= bounds[0] && px < bounds[2] && py >= bounds[1] && py < bounds[3];
+	}
+
+	protected boolean intersects(Actor other) {
+		int[] a = getBounds();
+		int[] b = other.getBounds();
+		return a[0] < b[2] && b[0] < a[2] && a[1] < b[3] && b[1] < a[3];
+	}
+
+	// A null class means every actor, which is only asked for as List<Actor>
+	@SuppressWarnings("unchecked")
+	protected <A> List<A> getIntersectingObjects(Class<A> cls) {
+		failIfNotInWorld();
+		List<A> result = new ArrayList<A>();
+		for (Actor actor : world.getActors()) {
+			if (actor != this && (cls == null || cls.isInstance(actor)) && intersects(actor)) {
+				result.add(cls == null ? (A) actor : cls.cast(actor));
+			}
+		}
+		return result;
+	}
+
+	protected Actor getOneIntersectingObject(Class<?> cls) {
+		List<?> objects = getIntersectingObjects(cls);
+		return objects.isEmpty() ? null : (Actor) objects.get(0);
+	}
+
+	protected boolean isTouching(Class<?> cls) {
+		return getOneIntersectingObject(cls) != null;
+	}
+
+	// A null class means every actor, which is only asked for as List<Actor>
+	@SuppressWarnings("unchecked")
+	protected <A> List<A> getObjectsInRange(int radius, Class<A> cls) {
+		failIfNotInWorld();
+		List<A> result = new ArrayList<A>();
+		long limit = (long) radius * radius;
+		for (Actor actor : world.getActors()) {
+			if (actor != this && (cls == null || cls.isInstance(actor))) {
+				long dx = actor.x - x;
+				long dy = actor.y - y;
+				if (dx * dx + dy * dy <= limit) {
+					result.add(cls == null ? (A) actor : cls.cast(actor));
+				}
+			}
+		}
+		return result;
+	}
+
+	// A null class means every actor, which is only asked for as List<Actor>
+	@SuppressWarnings("unchecked")
+	protected <A> List<A> getObjectsAtOffset(int dx, int dy, Class<A> cls) {
+		failIfNotInWorld();
+		List<A> result = new ArrayList<A>();
+		for (Actor actor : world.getActors()) {
+			if (actor != this && (cls == null || cls.isInstance(actor)) && actor.containsPoint(x + dx, y + dy)) {
+				result.add(cls == null ? (A) actor : cls.cast(actor));
+			}
+		}
+		return result;
+	}
+
+	protected Actor getOneObjectAtOffset(int dx, int dy, Class<?> cls) {
+		List<?> objects = getObjectsAtOffset(dx, dy, cls);
+		return objects.isEmpty() ? null : (Actor) objects.get(0);
+	}
+}
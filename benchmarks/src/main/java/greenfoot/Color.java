@@ -0,0 +1,56 @@
+package greenfoot;
+
+/**
+ * Stub of greenfoot.Color backed by java.awt.Color.
+ */
+public class Color {
+	public static final Color BLACK = new Color(0, 0, 0);
+	public static final Color WHITE = new Color(255, 255, 255);
+	public static final Color GRAY = new Color(128, 128, 128);
+	public static final Color RED = new Color(255, 0, 0);
+	public static final Color GREEN = new Color(0, 255, 0);
+	public static final Color BLUE = new Color(0, 0, 255);
+	public static final Color YELLOW = new Color(255, 255, 0);
+
+	private final java.awt.Color color;
+
+	public Color(int r, int g, int b) {
+		this(r, g, b, 255);
+	}
+
+	public Color(int r, int g, int b, int a) {
+		color = new java.awt.Color(r, g, b, a);
+	}
+
+	Color(java.awt.Color color) {
+		this.color = color;
+	}
+
+	public int getRed() {
+		return color.getRed();
+	}
+
+	public int getGreen() {
+		return color.getGreen();
+	}
+
+	public int getBlue() {
+		return color.getBlue();
+	}
+
+	public int getAlpha() {
+		return color.getAlpha();
+	}
+
+	java.awt.Color getColorObject() {
+		return color;
+	}
+
+	public boolean equals(Object other) {
+		return other instanceof Color && ((Color) other).color.equals(color);
+	}
+
+	public int hashCode() {
+		return color.hashCode();
+	}
+}
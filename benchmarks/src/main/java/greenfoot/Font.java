@@ -0,0 +1,33 @@
+package greenfoot;
+
+/**
+ * Stub of greenfoot.Font backed by java.awt.Font.
+ */
+public class Font {
+	private final java.awt.Font font;
+
+	public Font(String name, boolean bold, boolean italic, int size) {
+		int style = (bold ? java.awt.Font.BOLD : 0) | (italic ? java.awt.Font.ITALIC : 0);
+		font = new java.awt.Font(name, style, size);
+	}
+
+	public Font(boolean bold, boolean italic, int size) {
+		this(java.awt.Font.SANS_SERIF, bold, italic, size);
+	}
+
+	public Font(String name, int size) {
+		this(name, false, false, size);
+	}
+
+	public Font(int size) {
+		this(false, false, size);
+	}
+
+	public int getSize() {
+		return font.getSize();
+	}
+
+	java.awt.Font getFontObject() {
+		return font;
+	}
+}
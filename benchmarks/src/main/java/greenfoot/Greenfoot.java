@@ -0,0 +1,104 @@
+package greenfoot;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Stub of greenfoot.Greenfoot. Keyboard and mouse state can be driven with the
+ * package's {@code set...} helpers; there is never a display.
+ */
+public class Greenfoot {
+	private static final Random random = new Random();
+	private static final Set<String> keysDown = new HashSet<String>();
+	private static World world;
+	private static MouseInfo mouse;
+	private static boolean mousePressed;
+	private static boolean mouseDragged;
+	private static boolean mouseDragEnded;
+	private static boolean mouseClicked;
+
+	private Greenfoot() {
+	}
+
+	public static int getRandomNumber(int limit) {
+		return random.nextInt(limit);
+	}
+
+	public static boolean isKeyDown(String keyName) {
+		return keysDown.contains(keyName);
+	}
+
+	public static String getKey() {
+		return null;
+	}
+
+	public static void setWorld(World world) {
+		Greenfoot.world = world;
+	}
+
+	public static World getWorld() {
+		return world;
+	}
+
+	public static void start() {
+	}
+
+	public static void stop() {
+	}
+
+	public static void delay(int time) {
+	}
+
+	public static void setSpeed(int speed) {
+	}
+
+	public static void playSound(String soundFile) {
+	}
+
+	public static boolean mousePressed(Object obj) {
+		return mousePressed;
+	}
+
+	public static boolean mouseClicked(Object obj) {
+		return mouseClicked;
+	}
+
+	public static boolean mouseDragged(Object obj) {
+		return mouseDragged;
+	}
+
+	public static boolean mouseDragEnded(Object obj) {
+		return mouseDragEnded;
+	}
+
+	public static boolean mouseMoved(Object obj) {
+		return false;
+	}
+
+	public static MouseInfo getMouseInfo() {
+		return mouse;
+	}
+
+	/**
+	 * Set whether a key is reported as held down.
+	 */
+	public static void setKeyDown(String keyName, boolean isDown) {
+		if (isDown) {
+			keysDown.add(keyName);
+		} else {
+			keysDown.remove(keyName);
+		}
+	}
+
+	/**
+	 * Set the mouse state reported until the next call.
+	 */
+	public static void setMouse(int x, int y, boolean pressed, boolean dragged, boolean dragEnded, boolean clicked) {
+		mouse = new MouseInfo(x, y, 1);
+		mousePressed = pressed;
+		mouseDragged = dragged;
+		mouseDragEnded = dragEnded;
+		mouseClicked = clicked;
+	}
+}
@@ -0,0 +1,291 @@
+package greenfoot;
+
+import java.awt.AlphaComposite;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import javax.imageio.ImageIO;
+
+/**
+ * Stub of greenfoot.GreenfootImage backed by an ARGB BufferedImage, so that
+ * image work costs what it costs in Greenfoot. Like Greenfoot's, copies share
+ * their pixels until one of them is drawn on.
+ */
+public class GreenfootImage {
+	private BufferedImage image;
+	private boolean copyOnWrite = false;
+	private java.awt.Color color = java.awt.Color.BLACK;
+	private java.awt.Font font = new java.awt.Font(java.awt.Font.SANS_SERIF, java.awt.Font.PLAIN, 12);
+	private int transparency = 255;
+
+	public GreenfootImage(String filename) {
+		try {
+			image = toArgb(load(filename));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not load image from: " + filename, e);
+		}
+	}
+
+	public GreenfootImage(int width, int height) {
+		image = new BufferedImage(Math.max(width, 1), Math.max(height, 1), BufferedImage.TYPE_INT_ARGB);
+	}
+
+	public GreenfootImage(GreenfootImage image) {
+		this.image = image.image;
+		copyOnWrite = true;
+		image.copyOnWrite = true;
+		color = image.color;
+		font = image.font;
+		transparency = image.transparency;
+	}
+
+	public GreenfootImage(String string, int size, Color foreground, Color background) {
+		this(string, size, foreground, background, null);
+	}
+
+	public GreenfootImage(String string, int size, Color foreground, Color background, Color outline) {
+		java.awt.Font textFont = new java.awt.Font(java.awt.Font.SANS_SERIF, java.awt.Font.PLAIN, size);
+		String[] lines = string.replace("\r", "").split("\n", -1);
+		BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D measure = scratch.createGraphics();
+		FontMetrics metrics = measure.getFontMetrics(textFont);
+		measure.dispose();
+		int width = 1;
+		for (String line : lines) {
+			width = Math.max(width, metrics.stringWidth(line));
+		}
+		int lineHeight = metrics.getHeight();
+		image = new BufferedImage(width, Math.max(lineHeight * lines.length, 1), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		if (background != null) {
+			g.setColor(background.getColorObject());
+			g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		}
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		g.setFont(textFont);
+		g.setColor(foreground != null ? foreground.getColorObject() : java.awt.Color.BLACK);
+		for (int i = 0; i < lines.length; i++) {
+			g.drawString(lines[i], 0, metrics.getAscent() + i * lineHeight);
+		}
+		g.dispose();
+	}
+
+	private static BufferedImage load(String filename) throws IOException {
+		URL url = GreenfootImage.class.getClassLoader().getResource(filename);
+		if (url != null) {
+			try (InputStream in = url.openStream()) {
+				return ImageIO.read(in);
+			}
+		}
+		File file = World.resolveProjectFile(filename);
+		BufferedImage loaded = ImageIO.read(file);
+		if (loaded == null) {
+			throw new IOException("Unsupported image: " + file);
+		}
+		return loaded;
+	}
+
+	private static BufferedImage toArgb(BufferedImage source) {
+		if (source.getType() == BufferedImage.TYPE_INT_ARGB) {
+			return source;
+		}
+		return copy(source);
+	}
+
+	private static BufferedImage copy(BufferedImage source) {
+		BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = copy.createGraphics();
+		g.drawImage(source, 0, 0, null);
+		g.dispose();
+		return copy;
+	}
+
+	/**
+	 * Give this image its own pixels before they are changed, if they are shared with a copy.
+	 */
+	private void ensureWritable() {
+		if (copyOnWrite) {
+			image = copy(image);
+			copyOnWrite = false;
+		}
+	}
+
+	private Graphics2D graphics() {
+		ensureWritable();
+		Graphics2D g = image.createGraphics();
+		g.setColor(color);
+		g.setFont(font);
+		return g;
+	}
+
+	public BufferedImage getAwtImage() {
+		ensureWritable();
+		return image;
+	}
+
+	public int getWidth() {
+		return image.getWidth();
+	}
+
+	public int getHeight() {
+		return image.getHeight();
+	}
+
+	public void scale(int width, int height) {
+		if (width == image.getWidth() && height == image.getHeight()) {
+			return;
+		}
+		BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = scaled.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		image = scaled;
+		copyOnWrite = false;
+	}
+
+	public void mirrorHorizontally() {
+		BufferedImage mirrored = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = mirrored.createGraphics();
+		g.drawImage(image, image.getWidth(), 0, -image.getWidth(), image.getHeight(), null);
+		g.dispose();
+		image = mirrored;
+		copyOnWrite = false;
+	}
+
+	public void mirrorVertically() {
+		BufferedImage mirrored = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = mirrored.createGraphics();
+		g.drawImage(image, 0, image.getHeight(), image.getWidth(), -image.getHeight(), null);
+		g.dispose();
+		image = mirrored;
+		copyOnWrite = false;
+	}
+
+	public void rotate(int degrees) {
+		BufferedImage rotated = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = rotated.createGraphics();
+		g.rotate(Math.toRadians(degrees), image.getWidth() / 2.0, image.getHeight() / 2.0);
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		image = rotated;
+		copyOnWrite = false;
+	}
+
+	public int getTransparency() {
+		return transparency;
+	}
+
+	public void setTransparency(int transparency) {
+		if (transparency < 0 || transparency > 255) {
+			throw new IllegalArgumentException("The transparency value has to be in the range 0 to 255. It was: " + transparency);
+		}
+		this.transparency = transparency;
+	}
+
+	public Color getColor() {
+		return new Color(color);
+	}
+
+	public void setColor(Color color) {
+		this.color = color.getColorObject();
+	}
+
+	public Font getFont() {
+		return new Font(font.getName(), font.isBold(), font.isItalic(), font.getSize());
+	}
+
+	public void setFont(Font font) {
+		this.font = font.getFontObject();
+	}
+
+	public Color getColorAt(int x, int y) {
+		return new Color(new java.awt.Color(image.getRGB(x, y), true));
+	}
+
+	public void setColorAt(int x, int y, Color color) {
+		ensureWritable();
+		image.setRGB(x, y, color.getColorObject().getRGB());
+	}
+
+	public void clear() {
+		ensureWritable();
+		Graphics2D g = image.createGraphics();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		g.dispose();
+	}
+
+	public void fill() {
+		fillRect(0, 0, image.getWidth(), image.getHeight());
+	}
+
+	public void fillRect(int x, int y, int width, int height) {
+		Graphics2D g = graphics();
+		g.fillRect(x, y, width, height);
+		g.dispose();
+	}
+
+	public void drawRect(int x, int y, int width, int height) {
+		Graphics2D g = graphics();
+		g.drawRect(x, y, width, height);
+		g.dispose();
+	}
+
+	public void fillOval(int x, int y, int width, int height) {
+		Graphics2D g = graphics();
+		g.fillOval(x, y, width, height);
+		g.dispose();
+	}
+
+	public void drawOval(int x, int y, int width, int height) {
+		Graphics2D g = graphics();
+		g.drawOval(x, y, width, height);
+		g.dispose();
+	}
+
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		Graphics2D g = graphics();
+		g.drawLine(x1, y1, x2, y2);
+		g.dispose();
+	}
+
+	public void drawString(String string, int x, int y) {
+		Graphics2D g = graphics();
+		g.drawString(string, x, y);
+		g.dispose();
+	}
+
+	public void drawImage(GreenfootImage source, int x, int y) {
+		ensureWritable();
+		Graphics2D g = image.createGraphics();
+		if (source.transparency < 255) {
+			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, source.transparency / 255f));
+		}
+		g.drawImage(source.image, x, y, null);
+		g.dispose();
+	}
+
+	/**
+	 * Draw an image rotated about its centre, as the world draws rotated actors.
+	 */
+	void drawRotated(GreenfootImage source, int centreX, int centreY, int rotation) {
+		ensureWritable();
+		Graphics2D g = image.createGraphics();
+		if (source.transparency < 255) {
+			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, source.transparency / 255f));
+		}
+		AffineTransform transform = new AffineTransform();
+		transform.translate(centreX, centreY);
+		transform.rotate(Math.toRadians(rotation));
+		transform.translate(-source.getWidth() / 2, -source.getHeight() / 2);
+		g.drawImage(source.image, transform, null);
+		g.dispose();
+	}
+}
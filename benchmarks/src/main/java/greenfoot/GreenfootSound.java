@@ -0,0 +1,41 @@
+package greenfoot;
+
+/**
+ * Stub of greenfoot.GreenfootSound that never produces any audio.
+ */
+public class GreenfootSound {
+	private final String filename;
+	private int volume = 100;
+
+	public GreenfootSound(String filename) {
+		this.filename = filename;
+	}
+
+	public void play() {
+	}
+
+	public void playLoop() {
+	}
+
+	public void stop() {
+	}
+
+	public void pause() {
+	}
+
+	public boolean isPlaying() {
+		return false;
+	}
+
+	public int getVolume() {
+		return volume;
+	}
+
+	public void setVolume(int volume) {
+		this.volume = volume;
+	}
+
+	public String toString() {
+		return filename;
+	}
+}
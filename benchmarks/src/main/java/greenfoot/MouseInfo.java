@@ -0,0 +1,36 @@
+package greenfoot;
+
+/**
+ * Stub of greenfoot.MouseInfo.
+ */
+public class MouseInfo {
+	private final int x;
+	private final int y;
+	private final int button;
+
+	MouseInfo(int x, int y, int button) {
+		this.x = x;
+		this.y = y;
+		this.button = button;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getButton() {
+		return button;
+	}
+
+	public int getClickCount() {
+		return 1;
+	}
+
+	public Actor getActor() {
+		return null;
+	}
+}
@@ -0,0 +1,161 @@
+package greenfoot;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stub of greenfoot.World. Objects are kept in insertion order, which is also
+ * the order that Greenfoot acts and returns them in when no act order is set.
+ */
+public abstract class World {
+	private final int width;
+	private final int height;
+	private final int cellSize;
+	private final boolean isBounded;
+	private final List<Actor> actors = new ArrayList<Actor>();
+	private GreenfootImage background;
+
+	public World(int worldWidth, int worldHeight, int cellSize) {
+		this(worldWidth, worldHeight, cellSize, true);
+	}
+
+	public World(int worldWidth, int worldHeight, int cellSize, boolean bounded) {
+		this.width = worldWidth;
+		this.height = worldHeight;
+		this.cellSize = cellSize;
+		this.isBounded = bounded;
+		background = new GreenfootImage(worldWidth * cellSize, worldHeight * cellSize);
+	}
+
+	/**
+	 * Resolve a scenario-relative file such as "images/web.png". Files are looked up in
+	 * the directory named by the greenfoot.project system property, the working
+	 * directory, and then its parent.
+	 */
+	static File resolveProjectFile(String filename) {
+		String projectDir = System.getProperty("greenfoot.project");
+		if (projectDir != null) {
+			return new File(projectDir, filename);
+		}
+		File file = new File(filename);
+		if (!file.exists()) {
+			File parentFile = new File("..", filename);
+			if (parentFile.exists()) {
+				return parentFile;
+			}
+		}
+		return file;
+	}
+
+	List<Actor> getActors() {
+		return actors;
+	}
+
+	public void act() {
+	}
+
+	public void started() {
+	}
+
+	public void stopped() {
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getCellSize() {
+		return cellSize;
+	}
+
+	boolean isBounded() {
+		return isBounded;
+	}
+
+	public GreenfootImage getBackground() {
+		return background;
+	}
+
+	public void setBackground(GreenfootImage image) {
+		background = image;
+	}
+
+	public void setBackground(String filename) {
+		setBackground(new GreenfootImage(filename));
+	}
+
+	public void setPaintOrder(Class<?>... classes) {
+	}
+
+	public void setActOrder(Class<?>... classes) {
+	}
+
+	public void repaint() {
+	}
+
+	public void showText(String text, int x, int y) {
+	}
+
+	public void addObject(Actor object, int x, int y) {
+		if (object.world != null) {
+			if (object.world == this) {
+				return;
+			}
+			object.world.removeObject(object);
+		}
+		actors.add(object);
+		object.x = x;
+		object.y = y;
+		object.world = this;
+		object.setLocation(x, y);
+		object.addedToWorld(this);
+	}
+
+	public void removeObject(Actor object) {
+		if (object == null || object.world != this) {
+			return;
+		}
+		actors.remove(object);
+		object.world = null;
+	}
+
+	public void removeObjects(Collection<? extends Actor> objects) {
+		for (Actor actor : new ArrayList<Actor>(objects)) {
+			removeObject(actor);
+		}
+	}
+
+	// A null class means every actor, which is only asked for as List<Actor>
+	@SuppressWarnings("unchecked")
+	public <A> List<A> getObjects(Class<A> cls) {
+		List<A> result = new ArrayList<A>();
+		for (Actor actor : actors) {
+			if (cls == null || cls.isInstance(actor)) {
+				result.add(cls == null ? (A) actor : cls.cast(actor));
+			}
+		}
+		return result;
+	}
+
+	// A null class means every actor, which is only asked for as List<Actor>
+	@SuppressWarnings("unchecked")
+	public <A> List<A> getObjectsAt(int x, int y, Class<A> cls) {
+		List<A> result = new ArrayList<A>();
+		for (Actor actor : actors) {
+			if ((cls == null || cls.isInstance(actor)) && actor.containsPoint(x, y)) {
+				result.add(cls == null ? (A) actor : cls.cast(actor));
+			}
+		}
+		return result;
+	}
+
+	public int numberOfObjects() {
+		return actors.size();
+	}
+}
@@ -0,0 +1,41 @@
+package superspider.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The spider's collision checks against gas and coins in one act cycle, with more and more puffs of gas and coins
+ * away from the spider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+	@Param({"8", "64", "512"})
+	public int puffCount;
+
+	private Fixture collisions;
+
+	@Setup
+	public void setUp() {
+		collisions = Fixtures.create("spiderCollisions", puffCount);
+	}
+
+	@Benchmark
+	public Object spiderCollisions() {
+		return collisions.run();
+	}
+}
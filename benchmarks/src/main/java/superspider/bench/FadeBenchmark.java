@@ -0,0 +1,49 @@
+package superspider.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The fade system over a complete fade of one actor, from fully opaque until the actor is removed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FadeBenchmark {
+	private Fixture coin;
+	private Fixture web;
+
+	@Setup
+	public void setUp() {
+		coin = Fixtures.create("fadeCoin", 0);
+		web = Fixtures.create("fadeWeb", 0);
+	}
+
+	/**
+	 * A coin, one of the small shared sprites.
+	 */
+	@Benchmark
+	public Object coin() {
+		return coin.run();
+	}
+
+	/**
+	 * A large locked web, including locking it in.
+	 */
+	@Benchmark
+	public Object web() {
+		return web.run();
+	}
+}
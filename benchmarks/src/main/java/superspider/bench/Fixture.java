@@ -0,0 +1,17 @@
+package superspider.bench;
+
+/**
+ * One repeatable operation on the scenario, set up ahead of time.
+ *
+ * The scenario's classes live in the default package, which classes in a named package (such as the code JMH
+ * generates) cannot refer to. Fixtures are therefore built by BenchmarkFixtures in the default package and handed to
+ * the benchmarks through this interface.
+ */
+public interface Fixture {
+	/**
+	 * Perform the operation once.
+	 *
+	 * @return a result of the operation, for the benchmark to consume
+	 */
+	public Object run();
+}
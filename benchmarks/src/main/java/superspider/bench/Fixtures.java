@@ -0,0 +1,29 @@
+package superspider.bench;
+
+import java.lang.reflect.Method;
+
+/**
+ * Looks up the fixtures that BenchmarkFixtures builds.
+ */
+final class Fixtures {
+	private static final String FACTORY_CLASS = "BenchmarkFixtures";
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Create a fixture by calling a static factory method of BenchmarkFixtures.
+	 *
+	 * @param name the name of the factory method
+	 * @param parameter the value to pass to the factory method
+	 * @return the fixture that was created
+	 */
+	static Fixture create(String name, int parameter) {
+		try {
+			Method factory = Class.forName(FACTORY_CLASS).getMethod(name, int.class);
+			return (Fixture) factory.invoke(null, parameter);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Could not create fixture " + name + "(" + parameter + ")", e);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package superspider.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One act cycle of the gas cloud, moving and drawing a number of puffs onto its world-sized canvas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GasCloudBenchmark {
+	@Param({"1", "8", "64"})
+	public int puffCount;
+
+	private Fixture act;
+
+	@Setup
+	public void setUp() {
+		act = Fixtures.create("gasCloudAct", puffCount);
+	}
+
+	@Benchmark
+	public Object act() {
+		return act.run();
+	}
+}
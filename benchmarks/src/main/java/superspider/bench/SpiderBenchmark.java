@@ -0,0 +1,64 @@
+package superspider.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Spider movement and web lookups with a number of locked webs in the world. Only the last web is under the spider,
+ * so every lookup has to look at all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpiderBenchmark {
+	@Param({"1", "3", "8", "32"})
+	public int webCount;
+
+	private Fixture updateLocation;
+	private Fixture isOnWeb;
+	private Fixture updateAnimationFrame;
+
+	@Setup
+	public void setUp() {
+		updateLocation = Fixtures.create("spiderUpdateLocation", webCount);
+		isOnWeb = Fixtures.create("spiderIsOnWeb", webCount);
+		updateAnimationFrame = Fixtures.create("spiderUpdateAnimationFrameFacingRight", webCount);
+	}
+
+	/**
+	 * Spider.updateLocation, walking left and right on alternate calls.
+	 */
+	@Benchmark
+	public Object updateLocation() {
+		return updateLocation.run();
+	}
+
+	/**
+	 * Spider.isOnWeb at the spider's location.
+	 */
+	@Benchmark
+	public Object isOnWeb() {
+		return isOnWeb.run();
+	}
+
+	/**
+	 * Spider.updateAnimationFrame while the spider is facing right, so its frames are mirrored.
+	 */
+	@Benchmark
+	public Object updateAnimationFrameFacingRight() {
+		return updateAnimationFrame.run();
+	}
+}
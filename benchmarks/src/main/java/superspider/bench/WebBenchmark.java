@@ -0,0 +1,41 @@
+package superspider.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Web.drag across a full mouse drag, from nothing to a web larger than the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebBenchmark {
+	// Number of drag events in one drag; one per act cycle is a one second drag
+	@Param({"60"})
+	public int dragEvents;
+
+	private Fixture drag;
+
+	@Setup
+	public void setUp() {
+		drag = Fixtures.create("webDrag", dragEvents);
+	}
+
+	@Benchmark
+	public Object drag() {
+		return drag.run();
+	}
+}
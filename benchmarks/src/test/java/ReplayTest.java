@@ -0,0 +1,48 @@
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Records games played by a SpiderBot and checks that replaying each recording ends the game exactly as it ended
+ * while it was recorded.
+ */
+public class ReplayTest {
+	private static final int MAX_TICKS = 200 * GameClock.TICKS_PER_SECOND;
+
+	@Test
+	public void replayPlaysOutAsRecorded() throws IOException {
+		assertReplay(GameMode.HARD, 1, GameSettings.DEFAULT);
+	}
+
+	@Test
+	public void replayUsesRecordedSettings() throws IOException {
+		assertReplay(GameMode.HARD, 1, GameSettings.DEFAULT.withSpawnMultiplier(2));
+	}
+
+	/**
+	 * Record a game played by the bot, replay it, and check that both games ended the same way.
+	 */
+	private static void assertReplay(GameMode mode, long seed, GameSettings settings) throws IOException {
+		HeadlessSimulation simulation = new HeadlessSimulation(mode, seed, settings);
+		ByteArrayOutputStream recording = new ByteArrayOutputStream();
+		simulation.getWorld().recordInput(recording);
+		int count = new SpiderBot(simulation).play(MAX_TICKS);
+		simulation.getWorld().stopped();
+		ReplayInput replay = new ReplayInput(new ByteArrayInputStream(recording.toByteArray()));
+		assertEquals(settings.toString(), replay.getSettings().toString());
+		HeadlessSimulation replayed = new HeadlessSimulation(replay);
+		int replayedCount = replayed.runUntilOver(count);
+		assertEquals(describe(count, simulation.getWorld()), describe(replayedCount, replayed.getWorld()));
+	}
+
+	/**
+	 * Describe how a game ended.
+	 */
+	private static String describe(int count, GameWorld world) {
+		return count + " act cycles, score " + world.getScore() + ", " + world.getSpider().getLives() + " lives";
+	}
+}
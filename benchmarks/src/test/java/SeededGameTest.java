@@ -0,0 +1,52 @@
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Plays seeded games with a SpiderBot and checks that each one ends exactly as it did when every actor still acted on
+ * its own, so that changes to how the game runs can't quietly change how a seeded game plays out.
+ *
+ * Each game is described by the number of act cycles it lasted, the score, the lives left and the number of webs the
+ * bot drew, which between them change whenever anything in the game happens differently.
+ */
+public class SeededGameTest {
+	// Games are stopped after the same 200 seconds of game time as in a parameter sweep
+	private static final int MAX_TICKS = 200 * GameClock.TICKS_PER_SECOND;
+
+	@Test
+	public void easyGamesPlayOutAsBefore() {
+		assertGame(GameMode.EASY, 1, "10293 act cycles, score 23, 0 lives, 92 webs");
+		assertGame(GameMode.EASY, 2, "12000 act cycles, score 21, 3 lives, 106 webs");
+		assertGame(GameMode.EASY, 3, "11072 act cycles, score 16, 0 lives, 78 webs");
+	}
+
+	@Test
+	public void hardGamesPlayOutAsBefore() {
+		assertGame(GameMode.HARD, 1, "5511 act cycles, score 16, 0 lives, 106 webs");
+		assertGame(GameMode.HARD, 2, "9268 act cycles, score 26, 0 lives, 170 webs");
+		assertGame(GameMode.HARD, 3, "9053 act cycles, score 25, 0 lives, 165 webs");
+	}
+
+	/**
+	 * Moving with fixed-point numbers can put something that moves at an angle in the next cell over from where moving
+	 * with doubles did, when the double position was a hair from the edge of a cell. In this game a puff of gas is one
+	 * cell further left after 1061 act cycles; with doubles the game lasted 4364 act cycles.
+	 */
+	@Test
+	public void fixedPointMovementPlaysOutAsBefore() {
+		assertGame(GameMode.EASY, 26, "4363 act cycles, score 8, 0 lives, 38 webs");
+	}
+
+	/**
+	 * Play a game with the bot and check how it ended.
+	 */
+	private static void assertGame(GameMode mode, long seed, String expected) {
+		HeadlessSimulation simulation = new HeadlessSimulation(mode, seed);
+		SpiderBot bot = new SpiderBot(simulation);
+		int count = bot.play(MAX_TICKS);
+		GameWorld world = simulation.getWorld();
+		String actual = count + " act cycles, score " + world.getScore() + ", " + world.getSpider().getLives()
+			+ " lives, " + bot.getWebsDrawn() + " webs";
+		assertEquals(mode + " game with seed " + seed, expected, actual);
+	}
+}